@@ -0,0 +1,113 @@
+package it.unisa.theneverendingrun;
+
+import it.unisa.theneverendingrun.models.Spawnable;
+import it.unisa.theneverendingrun.models.hero.Hero;
+import it.unisa.theneverendingrun.utilities.AabbUtils;
+import it.unisa.theneverendingrun.utilities.RingBuffer;
+
+public class CollisionManager {
+
+    /**
+     * Checks the collisions between the hero and the spawnables that can touch it.
+     * The spawnables enter the game on the right and all move left by the same amount, so their x coordinates are
+     * ordered as the buffer: the ones whose x range can overlap the hero, at any time of the step, are found with
+     * two binary searches and only those are checked. The range is widened by the hero width on the left, so that a
+     * spawnable the hero stops touching is still checked at least once, ending the collision.
+     *
+     * @param hero              the hero
+     * @param spawnables        the spawnables in the game, ordered by x
+     * @param maxSpawnableWidth the width of the widest spawnable
+     */
+    static void checkCollisions(Hero hero, RingBuffer<Spawnable> spawnables, float maxSpawnableWidth) {
+        if (spawnables.isEmpty())
+            return;
+
+        var heroLeft = Math.min(hero.getX(), hero.getPreviousX());
+        var heroRight = Math.max(hero.getX(), hero.getPreviousX()) + hero.getWidth();
+
+        // the front spawnable moved as all the others, unless they all entered the game in this step
+        var front = spawnables.first();
+        var spawnablesShift = Math.abs(front.getX() - front.getPreviousX());
+
+        var minX = heroLeft - hero.getWidth() - maxSpawnableWidth - spawnablesShift;
+        var maxX = heroRight + spawnablesShift;
+
+        var to = firstIndexAfter(spawnables, maxX);
+        for (int i = firstIndexNotBefore(spawnables, minX, to); i < to; i++)
+            checkCollision(hero, spawnables.get(i));
+    }
+
+    /**
+     * @return the index of the first spawnable whose x is greater than {@code x}, the size of the buffer if none
+     */
+    private static int firstIndexAfter(RingBuffer<Spawnable> spawnables, float x) {
+        int low = 0;
+        int high = spawnables.size();
+        while (low < high) {
+            var middle = (low + high) >>> 1;
+            if (spawnables.get(middle).getX() > x)
+                high = middle;
+            else
+                low = middle + 1;
+        }
+        return low;
+    }
+
+    /**
+     * @return the index of the first spawnable, among the first {@code size}, whose x is not less than {@code x},
+     * {@code size} if none
+     */
+    private static int firstIndexNotBefore(RingBuffer<Spawnable> spawnables, float x, int size) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            var middle = (low + high) >>> 1;
+            if (spawnables.get(middle).getX() >= x)
+                high = middle;
+            else
+                low = middle + 1;
+        }
+        return low;
+    }
+
+    /**
+     * Checks the collision between the hero and a spawnable. Besides the boxes overlapping at the end of the step,
+     * the boxes swept from their previous positions are checked, so that a spawnable moving further than its
+     * width in a step cannot pass through the hero: in that case the hero is moved back to where it hit it.
+     */
+    static void checkCollision(Hero hero, Spawnable spawnable) {
+        if (hero.intersects(spawnable)) {
+            spawnable.beginCollision(hero);
+            return;
+        }
+
+        var side = AabbUtils.sweptContactSide(hero.getPreviousX(), hero.getPreviousY(),
+                hero.getX(), hero.getY(), hero.getWidth(), hero.getHeight(),
+                spawnable.getPreviousX(), spawnable.getPreviousY(), spawnable.getX(), spawnable.getY(),
+                spawnable.getWidth(), spawnable.getHeight());
+
+        if (side == AabbUtils.NONE) {
+            spawnable.endCollision(hero);
+            return;
+        }
+
+        moveToContact(hero, spawnable, side);
+        spawnable.beginCollision(hero);
+    }
+
+    /**
+     * Moves the hero against the given side of the spawnable
+     */
+    private static void moveToContact(Hero hero, Spawnable spawnable, int side) {
+        if (side == AabbUtils.LEFT)
+            hero.setX(spawnable.getX() - hero.getWidth());
+        else if (side == AabbUtils.RIGHT)
+            hero.setX(spawnable.getX() + spawnable.getWidth());
+        else if (side == AabbUtils.BOTTOM)
+            hero.setY(spawnable.getY() + spawnable.getHeight());
+        else if (side == AabbUtils.TOP)
+            hero.setY(spawnable.getY() - hero.getHeight());
+    }
+
+
+}
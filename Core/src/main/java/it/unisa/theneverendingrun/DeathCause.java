@@ -0,0 +1,22 @@
+package it.unisa.theneverendingrun;
+
+/**
+ * How a run ended
+ */
+public enum DeathCause {
+
+    /**
+     * The hero was pushed out of the left edge of the world by an obstacle
+     */
+    OFF_SCREEN,
+
+    /**
+     * The hero touched an enemy
+     */
+    ENEMY,
+
+    /**
+     * The hero was still alive when the run was stopped
+     */
+    TIME_LIMIT,
+}
@@ -0,0 +1,74 @@
+package it.unisa.theneverendingrun;
+
+import it.unisa.theneverendingrun.models.hero.Hero;
+
+/**
+ * The keys the game reacts to, as bits of a bitmask, and how such a bitmask moves the hero.
+ * The bitmask is read from the keyboard by the game, or made up by a bot, and applied by the simulation.
+ */
+public class HeroInput {
+
+    /**
+     * Right or D is held
+     */
+    public static final int RIGHT = 1;
+
+    /**
+     * Left or A is held
+     */
+    public static final int LEFT = 1 << 1;
+
+    /**
+     * Up or W was pressed since the previous poll
+     */
+    public static final int JUMP = 1 << 2;
+
+    /**
+     * Down or S is held
+     */
+    public static final int SLIDE = 1 << 3;
+
+    /**
+     * The keys that stay set as long as they are held
+     */
+    public static final int HELD_KEYS = RIGHT | LEFT | SLIDE;
+
+    /**
+     * The keys that are set once for each press
+     */
+    public static final int PRESSED_KEYS = JUMP;
+
+    /**
+     * Moves the hero according to the keys
+     *
+     * @param hero  the hero to move
+     * @param speed the speed of the game
+     * @param keys  the bitmask of the keys
+     */
+    public void applyKeys(Hero hero, float speed, int keys) {
+
+        if ((keys & RIGHT) != 0) {
+            hero.getFacingState().onRight();
+
+            if (hero.getX() < hero.getGroundX())
+                hero.setDx(speed * 2f);
+            else
+                hero.setDx(speed);
+        } else
+            hero.setDx(0);
+
+        if ((keys & JUMP) != 0) {
+            hero.getMoveState().onJump();
+        }
+
+        if ((keys & LEFT) != 0) {
+            hero.getFacingState().onLeft();
+            hero.setDx(speed);
+        }
+
+        if ((keys & SLIDE) != 0) {
+            hero.getMoveState().onSlide();
+        }
+
+    }
+}
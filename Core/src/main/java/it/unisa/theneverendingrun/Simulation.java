@@ -0,0 +1,292 @@
+package it.unisa.theneverendingrun;
+
+import it.unisa.theneverendingrun.metersManager.MetersManagerFactory;
+import it.unisa.theneverendingrun.metersManager.MetersSnapshot;
+import it.unisa.theneverendingrun.models.Spawnable;
+import it.unisa.theneverendingrun.models.SpawnableTypes;
+import it.unisa.theneverendingrun.models.World;
+import it.unisa.theneverendingrun.models.background.AbstractScrollingBackground;
+import it.unisa.theneverendingrun.models.enemy.AbstractEnemy;
+import it.unisa.theneverendingrun.models.enemy.EnemyEventBus;
+import it.unisa.theneverendingrun.models.hero.Hero;
+import it.unisa.theneverendingrun.models.hero.HeroFrames;
+import it.unisa.theneverendingrun.obstaclesManager.SpawnableManager;
+import it.unisa.theneverendingrun.services.ForestFactory;
+import it.unisa.theneverendingrun.streamManager.ReplayState;
+import it.unisa.theneverendingrun.utilities.RingBuffer;
+
+import java.util.Random;
+
+/**
+ * A game without its rendering and its input devices: the hero, the background and the spawnables, advanced a fixed
+ * tick at a time by the keys it is given.
+ * Each simulation has its own meters, spawnables and random numbers, so several simulations can run at the same
+ * time, each on one thread.
+ */
+public class Simulation implements ReplayState {
+
+    private final World world;
+    private final Hero hero;
+    private final AbstractScrollingBackground background;
+
+    /**
+     * The spawnables in the game, ordered by the time they entered it from the right
+     */
+    private final RingBuffer<Spawnable> spawnables = new RingBuffer<>();
+    private final SpawnableManager spawnableManager;
+
+    /**
+     * The bus of the events of the enemies, dispatched in a batch once the spawnables of a tick are settled
+     */
+    private final EnemyEventBus enemyEvents;
+
+    private final MetersManagerFactory metersManagerFactory = new MetersManagerFactory();
+
+    /**
+     * The meters, score, speed and spawn probability of the current tick, read once after the meters are computed
+     */
+    private MetersSnapshot metersSnapshot = metersManagerFactory.getSnapshot();
+    private final HeroInput input = new HeroInput();
+
+    /**
+     * The random numbers of the game
+     */
+    private final Random random;
+
+    /**
+     * The number of spawnables of each type that entered the game in the current run
+     */
+    private final int[] spawned = new int[SpawnableTypes.values().length];
+
+    /**
+     * How the current run ended, null while the hero is alive
+     */
+    private DeathCause deathCause;
+
+    /**
+     * The number of ticks simulated in the current run
+     */
+    private int ticks;
+
+    /**
+     * @param world      the world to simulate
+     * @param heroFrames the measures of the frames of the hero
+     * @param random     the random numbers of the game, which remain owned by the simulation
+     */
+    public Simulation(World world, HeroFrames heroFrames, Random random) {
+        this.world = world;
+        this.random = random;
+        var factory = new ForestFactory(world, heroFrames);
+        background = factory.createBackground();
+        hero = factory.createHero();
+        spawnableManager = new SpawnableManager(factory, random);
+        enemyEvents = factory.getEnemyEvents();
+    }
+
+    /**
+     * Advances the game by a tick
+     *
+     * @param tick the duration of the tick in seconds
+     * @param keys the bitmask of the keys pressed by the player, as defined by {@link HeroInput}
+     */
+    public void tick(float tick, int keys) {
+        preUpdateSprites();
+
+        background.scroll();
+
+        if (!hero.isXAxisVisible(world.getWidth())) {
+            hero.die();
+            deathCause = DeathCause.OFF_SCREEN;
+        }
+
+        metersManagerFactory.computeMeters();
+        metersSnapshot = metersManagerFactory.getSnapshot();
+        spawnableManager.setSpawnProbability(metersSnapshot.getSpawnProbability());
+
+        hero.updateDelta(tick);
+        input.applyKeys(hero, metersSnapshot.getSpeed(), keys);
+        hero.move();
+
+        Spawnable newObstacle = spawnableManager.generateNewObstacle();
+
+        if (newObstacle != null) {
+            spawnables.add(newObstacle);
+            spawned[newObstacle.getType().ordinal()]++;
+        }
+        spawnableManager.clearOldObstacles(spawnables);
+        // a spawned enemy was reset to idle, which its animator must know before it is animated
+        enemyEvents.dispatch();
+
+        moveAllObjects();
+
+        animateCharacters(tick);
+
+        checkCollisions();
+
+        if (hero.isDead() && deathCause == null)
+            deathCause = DeathCause.ENEMY;
+
+        enemyEvents.dispatch();
+
+        ticks++;
+    }
+
+    /**
+     * Starts a new run, rewinding the state of the ended one while keeping all the loaded resources
+     */
+    public void restart() {
+        hero.reset();
+        background.reset();
+        metersManagerFactory.reset();
+        metersSnapshot = metersManagerFactory.getSnapshot();
+        spawnableManager.reset(spawnables);
+
+        deathCause = null;
+        ticks = 0;
+        for (int i = 0; i < spawned.length; i++)
+            spawned[i] = 0;
+    }
+
+    /**
+     * Starts a new run whose random numbers are given by {@code seed}, so that the same seed and keys give the same run
+     *
+     * @param seed the seed of the random numbers of the run
+     */
+    public void restart(long seed) {
+        restart();
+        random.setSeed(seed);
+    }
+
+    private void animateCharacters(float tick) {
+        for (int i = 0; i < spawnables.size(); i++) {
+            var enemy = spawnables.get(i);
+            if (enemy instanceof AbstractEnemy) {
+                var animator = ((AbstractEnemy) enemy).getAnimator();
+                animator.updateStateTime(tick);
+                animator.updateImageFrame((AbstractEnemy) enemy);
+            }
+        }
+    }
+
+    /**
+     * Stores the coordinates of the hero and of the spawnables before they are moved by the update
+     */
+    private void preUpdateSprites() {
+        hero.preUpdate();
+        for (int i = 0; i < spawnables.size(); i++)
+            spawnables.get(i).preUpdate();
+    }
+
+    private void moveAllObjects() {
+        var speed = metersSnapshot.getSpeed();
+        hero.setX(hero.getX() - speed);
+
+        for (int i = 0; i < spawnables.size(); i++) {
+            var obstacle = spawnables.get(i);
+            obstacle.setX(obstacle.getX() - 3 * speed);
+        }
+    }
+
+    private void checkCollisions() {
+        CollisionManager.checkCollisions(hero, spawnables, spawnableManager.getMaxObstacleWidth());
+    }
+
+    /**
+     * Hashes the exact coordinates and sizes of the hero and of the spawnables, with the meters and the ticks of the run,
+     * so that two runs can be told apart by the hash of their final states
+     *
+     * @return the hash of the current state of the game
+     */
+    @Override
+    public long getStateHash() {
+        long hash = ticks;
+        hash = 31 * hash + metersSnapshot.getMeters();
+        hash = 31 * hash + metersSnapshot.getScore();
+        hash = 31 * hash + Float.floatToIntBits(hero.getX());
+        hash = 31 * hash + Float.floatToIntBits(hero.getY());
+        hash = 31 * hash + Float.floatToIntBits(hero.getWidth());
+        hash = 31 * hash + Float.floatToIntBits(hero.getHeight());
+        for (int i = 0; i < spawnables.size(); i++) {
+            var spawnable = spawnables.get(i);
+            hash = 31 * hash + spawnable.getType().ordinal();
+            hash = 31 * hash + Float.floatToIntBits(spawnable.getX());
+            hash = 31 * hash + Float.floatToIntBits(spawnable.getY());
+            hash = 31 * hash + Float.floatToIntBits(spawnable.getWidth());
+            hash = 31 * hash + Float.floatToIntBits(spawnable.getHeight());
+        }
+        return hash;
+    }
+
+    /**
+     * @return true if the hero died in the current run
+     */
+    public boolean isOver() {
+        return deathCause != null;
+    }
+
+    /**
+     * @return how the current run ended, null while the hero is alive
+     */
+    public DeathCause getDeathCause() {
+        return deathCause;
+    }
+
+    /**
+     * @return the number of ticks simulated in the current run
+     */
+    public int getTicks() {
+        return ticks;
+    }
+
+    /**
+     * @param type a spawnable type
+     * @return the number of spawnables of {@code type} that entered the game in the current run
+     */
+    public int getSpawned(SpawnableTypes type) {
+        return spawned[type.ordinal()];
+    }
+
+    @Override
+    public int getMeters() {
+        return metersSnapshot.getMeters();
+    }
+
+    @Override
+    public int getScore() {
+        return metersSnapshot.getScore();
+    }
+
+    public float getSpeed() {
+        return metersSnapshot.getSpeed();
+    }
+
+    /**
+     * @return the bus of the events of the enemies of the game
+     */
+    public EnemyEventBus getEnemyEvents() {
+        return enemyEvents;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public Hero getHero() {
+        return hero;
+    }
+
+    public AbstractScrollingBackground getBackground() {
+        return background;
+    }
+
+    /**
+     * @return the spawnables in the game, ordered by the time they entered it from the right
+     */
+    public RingBuffer<Spawnable> getSpawnables() {
+        return spawnables;
+    }
+
+    public SpawnableManager getSpawnableManager() {
+        return spawnableManager;
+    }
+}
@@ -0,0 +1,71 @@
+package it.unisa.theneverendingrun.metersManager;
+
+/**
+ * The rule computing the difficulty level depending on the {@link MeterEditor} meters
+ */
+final class DifficultyRule {
+
+    /**
+     * the difficult each Meters_Delta meter increases of a Difficulty factor
+     */
+    private final static int DIFFICULTY_FACTOR = 1;
+
+    /**
+     * the initial difficulty of the game
+     */
+    private final static int INITIAL_DIFFICULTY = 0;
+
+    /**
+     * the number of the meter that the level difficulty will change
+     */
+    private final static float METERS_DELTA = 200.0f;
+
+    private DifficultyRule() {
+    }
+
+    /**
+     * Getter of the difficulty factor
+     *
+     * @return the difficulty factor
+     */
+    static int getDifficultyFactor() {
+        return DIFFICULTY_FACTOR;
+    }
+
+    /**
+     * Getter of the initial difficulty
+     *
+     * @return initial difficulty
+     */
+    static int getInitialDifficulty() {
+        return INITIAL_DIFFICULTY;
+    }
+
+    /**
+     * Getter the number of meters that the level difficulty will change
+     *
+     * @return meters delta
+     */
+    static float getMetersDelta() {
+        return METERS_DELTA;
+    }
+
+    /**
+     * Computes the difficulty level as a step function of the meters
+     *
+     * @param meters the travelled meters
+     * @return the difficulty level
+     */
+    static int computeDifficulty(int meters) {
+        return (int) (DIFFICULTY_FACTOR * meters / METERS_DELTA) + INITIAL_DIFFICULTY;
+    }
+
+    /**
+     * @param difficulty a difficulty level
+     * @return the level the speed and the spawn probability are computed from, which stops growing at the level
+     * before {@link Level#LEVEL_MAX}
+     */
+    static int cap(int difficulty) {
+        return Math.min(difficulty, Level.LEVEL_MAX.getValue() - 1);
+    }
+}
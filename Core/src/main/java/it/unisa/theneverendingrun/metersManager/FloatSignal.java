@@ -0,0 +1,46 @@
+package it.unisa.theneverendingrun.metersManager;
+
+/**
+ * A {@link Signal} holding a float computed by a function of an int input
+ */
+class FloatSignal extends Signal {
+
+    /**
+     * A function computing a float from an int
+     */
+    interface IntToFloatFunction {
+        float applyAsFloat(int value);
+    }
+
+    private final IntSignal input;
+    private final IntToFloatFunction function;
+
+    private float value;
+
+    /**
+     * @param input    the signal the value is computed from
+     * @param function the function computing the value from the value of {@code input}
+     */
+    FloatSignal(IntSignal input, IntToFloatFunction function) {
+        super(input);
+        this.input = input;
+        this.function = function;
+    }
+
+    /**
+     * @return the current value, recomputed first if the input changed
+     */
+    float get() {
+        getVersion();
+        return value;
+    }
+
+    @Override
+    boolean recompute() {
+        var newValue = function.applyAsFloat(input.get());
+        if (Float.floatToIntBits(newValue) == Float.floatToIntBits(value))
+            return false;
+        value = newValue;
+        return true;
+    }
+}
@@ -0,0 +1,71 @@
+package it.unisa.theneverendingrun.metersManager;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A {@link Signal} holding an int, either set or computed by a function of an int input
+ */
+class IntSignal extends Signal {
+
+    private final IntSignal input;
+    private final IntUnaryOperator function;
+
+    private int value;
+
+    /**
+     * Creates a source, whose value is set
+     *
+     * @param value the initial value
+     */
+    IntSignal(int value) {
+        super(null);
+        input = null;
+        function = null;
+        this.value = value;
+    }
+
+    /**
+     * Creates a signal derived from {@code input}
+     *
+     * @param input    the signal the value is computed from
+     * @param function the function computing the value from the value of {@code input}
+     */
+    IntSignal(IntSignal input, IntUnaryOperator function) {
+        super(input);
+        this.input = input;
+        this.function = function;
+    }
+
+    /**
+     * @return the current value, recomputed first if the input changed
+     */
+    int get() {
+        getVersion();
+        return value;
+    }
+
+    /**
+     * Sets the value of a source, which changes only if {@code value} is different from the current one
+     *
+     * @param value the new value
+     * @throws IllegalStateException if the signal is derived
+     */
+    void set(int value) {
+        if (function != null)
+            throw new IllegalStateException("A derived signal cannot be set.");
+
+        if (value != this.value) {
+            this.value = value;
+            changed();
+        }
+    }
+
+    @Override
+    boolean recompute() {
+        var newValue = function.applyAsInt(input.get());
+        if (newValue == value)
+            return false;
+        value = newValue;
+        return true;
+    }
+}
@@ -1,7 +1,8 @@
 package it.unisa.theneverendingrun.metersManager;
 
 /**
- * The class that is delegated to properly updating the meter counter
+ * The class that is delegated to properly updating the meter counter.
+ * Each game has its own editor, so that games running at the same time do not share their meters
  */
 class MeterEditor {
 
@@ -16,20 +17,15 @@ class MeterEditor {
     private final static int INITIAL_METERS = 0;
 
     /**
-     * The handler for all the {@link MetersEventType} topics related to this class
+     * The source of the values derived from the meters, which stores the total travelled meters
      */
-    static MetersEventManager events;
+    private final IntSignal meters = new IntSignal(INITIAL_METERS);
 
     /**
      * {@code counter} increases by 1 each time the update() method is called.
      * If it reaches {@code METERS_FACTOR}, it's set back to 0
      */
-    private static int counter;
-
-    /**
-     * The observed variable that stores the total travelled meters
-     */
-    static int meters;
+    private int counter;
 
     static int getMetersFactor() {
         return METERS_FACTOR;
@@ -40,24 +36,30 @@ class MeterEditor {
      *
      * @return the total travelled meters
      */
-    static int getMeters() {
+    int getMeters() {
+        return meters.get();
+    }
+
+    /**
+     * @return the signal the values depending on the meters are derived from
+     */
+    IntSignal getMetersSignal() {
         return meters;
     }
 
     /**
-     * {@code meters} setter: updates the {@code meters} field and notifies all the {@link MetersListener} observers
+     * {@code meters} setter: updates the {@code meters} signal, whose derived values are recomputed when next read
      *
      * @param meters the new meters value
      */
-    private static void setMeters(int meters) {
-        MeterEditor.meters = meters;
-        events.notify(MetersEventType.METERS_CHANGED, getMeters());
+    private void setMeters(int meters) {
+        this.meters.set(meters);
     }
 
     /**
      * Updates the {@code counter} and {@code meters} fields depending on {@code METERS_FACTOR}
      */
-    static void compute() {
+    void compute() {
         counter++;
         if (counter == METERS_FACTOR) {
             counter = 0;
@@ -68,7 +70,7 @@ class MeterEditor {
     /**
      * Set the {@code counter} and {@code meters} fields back to their initial values
      */
-    static void initialise() {
+    void initialise() {
         counter = 0;
         setMeters(INITIAL_METERS);
     }
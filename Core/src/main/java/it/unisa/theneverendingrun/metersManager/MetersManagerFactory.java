@@ -0,0 +1,119 @@
+package it.unisa.theneverendingrun.metersManager;
+
+/**
+ * A class that is delegated to initialise the {@link MeterEditor} and the graph of the values derived from its
+ * meters: the score and the difficulty level from the meters, the speed and the spawn probability from the level.
+ * Each value is memoised, and recomputed only when it is read after its input changed
+ */
+public class MetersManagerFactory {
+
+    /**
+     * The meter counter of this game
+     */
+    private final MeterEditor meterEditor = new MeterEditor();
+
+    private final IntSignal score;
+    private final IntSignal difficulty;
+    private final FloatSignal speed;
+    private final IntSignal spawnProbability;
+
+    /**
+     * The snapshot of the derived values, and the version of the meters it was taken at
+     */
+    private MetersSnapshot snapshot;
+    private int snapshotVersion = -1;
+
+    /**
+     * Initialises the {@link MeterEditor} and the values derived from its meters
+     */
+    public MetersManagerFactory() {
+        var meters = meterEditor.getMetersSignal();
+        score = new IntSignal(meters, ScoreRule::computeScore);
+        difficulty = new IntSignal(meters, DifficultyRule::computeDifficulty);
+        speed = new FloatSignal(difficulty, SpeedRule::computeSpeed);
+        spawnProbability = new IntSignal(difficulty, SpawnProbabilityRule::computeSpawnProbability);
+        meterEditor.initialise();
+    }
+
+    /**
+     * Brings the meters, and so the score, the difficulty, the speed and the spawn probability,
+     * back to their initial values
+     */
+    public void reset() {
+        meterEditor.initialise();
+    }
+
+    /**
+     * Updates the meter counter
+     */
+    public void computeMeters() {
+        meterEditor.compute();
+    }
+
+    /**
+     * @return the values derived from the current meters, the same snapshot until the meters change
+     */
+    public MetersSnapshot getSnapshot() {
+        var version = meterEditor.getMetersSignal().getVersion();
+        if (version != snapshotVersion) {
+            snapshot = new MetersSnapshot(getMeters(), getScore(), getDifficulty(), getSpeed(), getSpawnProbability());
+            snapshotVersion = version;
+        }
+        return snapshot;
+    }
+
+    /**
+     * @return the meter counter
+     */
+    public int getMeters() {
+        return meterEditor.getMeters();
+    }
+
+    /**
+     * @return the score
+     */
+    public int getScore() {
+        return score.get();
+    }
+
+    public int getDifficulty() {
+        return difficulty.get();
+    }
+
+    public int getSpawnProbability() {
+        return spawnProbability.get();
+    }
+
+    public float getSpeed() {
+        return speed.get();
+    }
+
+    public float getMetersDelta() {
+        return DifficultyRule.getMetersDelta();
+    }
+
+    public int getDifficultyFactor() {
+        return DifficultyRule.getDifficultyFactor();
+    }
+
+    public float getInitialSpeed() {
+        return SpeedRule.getInitialSpeed();
+    }
+
+    public float getSpeedFactor() {
+        return SpeedRule.getSpeedFactor();
+    }
+
+    public int getInitialDifficulty() {
+        return DifficultyRule.getInitialDifficulty();
+    }
+
+    public int getInitialSpawnProbability() {
+        return SpawnProbabilityRule.getInitialSpawnProbability();
+    }
+
+    public int getSpawnFactorProbability() {
+        return SpawnProbabilityRule.getSpawnFactorProbability();
+    }
+
+}
@@ -0,0 +1,48 @@
+package it.unisa.theneverendingrun.metersManager;
+
+/**
+ * The values derived from the meters at a tick, which never change once taken, so that a game reads all of them at
+ * once instead of asking the {@link MetersManagerFactory} for each one
+ */
+public final class MetersSnapshot {
+
+    private final int meters;
+    private final int score;
+    private final int difficulty;
+    private final float speed;
+    private final int spawnProbability;
+
+    MetersSnapshot(int meters, int score, int difficulty, float speed, int spawnProbability) {
+        this.meters = meters;
+        this.score = score;
+        this.difficulty = difficulty;
+        this.speed = speed;
+        this.spawnProbability = spawnProbability;
+    }
+
+    /**
+     * @return the meter counter
+     */
+    public int getMeters() {
+        return meters;
+    }
+
+    /**
+     * @return the score
+     */
+    public int getScore() {
+        return score;
+    }
+
+    public int getDifficulty() {
+        return difficulty;
+    }
+
+    public float getSpeed() {
+        return speed;
+    }
+
+    public int getSpawnProbability() {
+        return spawnProbability;
+    }
+}
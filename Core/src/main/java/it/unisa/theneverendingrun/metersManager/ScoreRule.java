@@ -0,0 +1,48 @@
+package it.unisa.theneverendingrun.metersManager;
+
+/**
+ * The rule computing the score depending on the {@link MeterEditor} meters
+ */
+final class ScoreRule {
+
+    /**
+     * The factor the meters are multiplied with in order to compute the score
+     */
+    private static final int SCORE_FACTOR = 10;
+
+    /**
+     * The score when the game begins, i.e. when 0 meters have been travelled
+     */
+    private static final int INITIAL_SCORE = 0;
+
+    private ScoreRule() {
+    }
+
+    /**
+     * {@code SCORE_FACTOR} getter
+     *
+     * @return the factor the meters are multiplied with in order to compute the score
+     */
+    static int getScoreFactor() {
+        return SCORE_FACTOR;
+    }
+
+    /**
+     * {@code INITIAL_SCORE} getter
+     *
+     * @return the score value when the game begins, i.e. when 0 meters have been travelled
+     */
+    static int getInitialScore() {
+        return INITIAL_SCORE;
+    }
+
+    /**
+     * Computes the score as a linear function of the travelled meters
+     *
+     * @param meters the travelled meters
+     * @return the score
+     */
+    static int computeScore(int meters) {
+        return SCORE_FACTOR * meters + INITIAL_SCORE;
+    }
+}
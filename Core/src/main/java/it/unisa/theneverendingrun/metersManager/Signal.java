@@ -0,0 +1,63 @@
+package it.unisa.theneverendingrun.metersManager;
+
+/**
+ * A node of the graph of the values derived from the meters.
+ * A signal is either a source, whose value is set, or derived from an input signal, whose value is memoised and
+ * recomputed only when it is read after its input changed. Each signal counts its changes in a version, so that a
+ * derived signal whose new value is equal to the old one does not make the signals derived from it recompute.
+ */
+abstract class Signal {
+
+    /**
+     * The input of a derived signal, null for a source
+     */
+    private final Signal input;
+
+    /**
+     * The version of the input the value was computed from, -1 before it is first computed
+     */
+    private int inputVersion = -1;
+
+    /**
+     * The number of times the value changed
+     */
+    private int version;
+
+    /**
+     * @param input the signal the value is derived from, null for a source
+     */
+    Signal(Signal input) {
+        this.input = input;
+    }
+
+    /**
+     * Brings the value up to date with the input, recomputing it only if the input changed since the last time
+     *
+     * @return the number of times the value changed
+     */
+    int getVersion() {
+        if (input != null) {
+            var currentInputVersion = input.getVersion();
+            if (currentInputVersion != inputVersion) {
+                inputVersion = currentInputVersion;
+                if (recompute())
+                    version++;
+            }
+        }
+        return version;
+    }
+
+    /**
+     * Marks the value of a source as changed
+     */
+    void changed() {
+        version++;
+    }
+
+    /**
+     * Computes the value of a derived signal from the current value of its input
+     *
+     * @return true if the value changed
+     */
+    abstract boolean recompute();
+}
@@ -0,0 +1,48 @@
+package it.unisa.theneverendingrun.metersManager;
+
+/**
+ * The rule computing the obstacle spawn probability depending on the {@link DifficultyRule} difficulty level
+ */
+final class SpawnProbabilityRule {
+
+    /**
+     * Initial probability of spawn
+     */
+    private static final int INITIAL_SPAWN_PROBABILITY = 90;
+
+    /**
+     * Spawn factor's probability used to compute the new spawn probability
+     */
+    private static final int SPAWN_FACTOR_PROBABILITY = 10;
+
+    private SpawnProbabilityRule() {
+    }
+
+    /**
+     * Getter of the initial spawn probability
+     *
+     * @return the initial spawn probability
+     */
+    static int getInitialSpawnProbability() {
+        return INITIAL_SPAWN_PROBABILITY;
+    }
+
+    /**
+     * Getter of the spawn factor
+     *
+     * @return the spawn factor
+     */
+    static int getSpawnFactorProbability() {
+        return SPAWN_FACTOR_PROBABILITY;
+    }
+
+    /**
+     * Computes the spawn probability, which decreases with the level until {@link Level#LEVEL_MAX}
+     *
+     * @param difficulty the difficulty level
+     * @return the spawn probability
+     */
+    static int computeSpawnProbability(int difficulty) {
+        return INITIAL_SPAWN_PROBABILITY - SPAWN_FACTOR_PROBABILITY * DifficultyRule.cap(difficulty);
+    }
+}
@@ -0,0 +1,49 @@
+package it.unisa.theneverendingrun.metersManager;
+
+/**
+ * The rule computing the speed depending on the {@link DifficultyRule} difficulty level
+ */
+final class SpeedRule {
+
+    /**
+     * Initial speed
+     */
+    private static final float INITIAL_SPEED = 1.2f;
+
+    /**
+     * Value of how the speed will increase
+     */
+    private static final float SPEED_FACTOR = 0.3f;
+
+    private SpeedRule() {
+    }
+
+    /**
+     * {@code INITIAL_SPEED} getter
+     *
+     * @return the initial speed
+     */
+    static float getInitialSpeed() {
+        return INITIAL_SPEED;
+    }
+
+    /**
+     * {@code SPEED_FACTOR} getter
+     *
+     * @return the speed factor
+     */
+    static float getSpeedFactor() {
+        return SPEED_FACTOR;
+    }
+
+    /**
+     * Computes the speed, which increases with the level until {@link Level#LEVEL_MAX}, rounded to the hundredth
+     *
+     * @param difficulty the difficulty level
+     * @return the speed
+     */
+    static float computeSpeed(int difficulty) {
+        var speed = INITIAL_SPEED + SPEED_FACTOR * DifficultyRule.cap(difficulty);
+        return (float) (Math.round(speed * 100.0) / 100.0);
+    }
+}
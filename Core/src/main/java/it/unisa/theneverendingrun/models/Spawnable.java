@@ -0,0 +1,35 @@
+package it.unisa.theneverendingrun.models;
+
+import it.unisa.theneverendingrun.models.hero.Hero;
+
+import java.util.Random;
+
+public abstract class Spawnable extends Sprite {
+
+    /**
+     * @return the type of the spawnable
+     */
+    public abstract SpawnableTypes getType();
+
+    public abstract void beginCollision(Hero hero);
+
+    public abstract void endCollision(Hero hero);
+
+    /**
+     * Gives the spawnable its random dimensions, right before it enters the game. Drawing them at this time, rather
+     * than when the spawnable is created or freed, makes them depend only on the random numbers of the game and not
+     * on the spawnables the pools happen to hold. The dimensions measured on the hero are taken at this time as well,
+     * since the hero changes size as it moves. Spawnables whose dimensions are fixed keep them.
+     *
+     * @param random the random numbers of the game
+     */
+    public void generateDimensions(Random random) {
+    }
+
+    /**
+     * Re-initialises the spawnable when it is freed to its pool, so that it can be spawned again
+     * as if it were just created. Its position is set by whoever spawns it.
+     */
+    public abstract void reset();
+
+}
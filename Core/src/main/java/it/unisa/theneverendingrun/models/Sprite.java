@@ -0,0 +1,161 @@
+package it.unisa.theneverendingrun.models;
+
+import it.unisa.theneverendingrun.utilities.AabbUtils;
+
+import java.security.InvalidParameterException;
+
+/**
+ * A box of the game, given by its bottom-left coordinates and its size, which is also the box it collides with.
+ * A sprite knows nothing of how it is drawn: the renderer picks the texture region of each sprite from its state.
+ */
+public class Sprite {
+
+    /**
+     * The bottom-left coordinates and the size of the sprite
+     */
+    private float x;
+    private float y;
+    private float width;
+    private float height;
+
+    /**
+     * The coordinates of the sprite when {@link #preUpdate()} was last called, i.e. before the current update moved it
+     */
+    private float previousX;
+    private float previousY;
+
+    /**
+     * Sprite constructor. The sprite is at the origin and has no size
+     */
+    public Sprite() {
+    }
+
+    /**
+     * Sprite constructor. The sprite is at the origin
+     *
+     * @param width  width of the sprite
+     * @param height height of the sprite
+     */
+    public Sprite(float width, float height) {
+        setSize(width, height);
+    }
+
+    /**
+     * Stores the current coordinates as the previous ones, before the sprite is moved by an update
+     */
+    public void preUpdate() {
+        previousX = x;
+        previousY = y;
+    }
+
+    /**
+     * @return the x coordinate of the sprite before the current update moved it
+     */
+    public float getPreviousX() {
+        return previousX;
+    }
+
+    /**
+     * @return the y coordinate of the sprite before the current update moved it
+     */
+    public float getPreviousY() {
+        return previousY;
+    }
+
+    /**
+     * Check if the Sprite is currently visible on the x axis
+     */
+    public boolean isXAxisVisible() {
+        return (getX() + getWidth()) > 0;
+    }
+
+    /**
+     * Check if the Sprite is currently visible on the y axis
+     */
+    public boolean isYAxisVisible() {
+        return (getY() + getHeight()) > 0;
+    }
+
+    /**
+     * Check if the Sprite is currently visible on the x axis
+     */
+    public boolean isXAxisVisible(double maxXAxisValue) {
+        if (maxXAxisValue < 0) throw new InvalidParameterException("maxXAxisValue cannot be less than 0");
+        return (getX() + getWidth()) > 0 && (getX() - getWidth()) < maxXAxisValue;
+    }
+
+    /**
+     * Check if the Sprite is currently visible on the y axis
+     */
+    public boolean isYAxisVisible(double maxYAxisValue) {
+        if (maxYAxisValue < 0) throw new InvalidParameterException("maxYAxisValue cannot be less than 0");
+        return (getY() + getHeight()) > 0 && (getY() - getHeight()) < maxYAxisValue;
+    }
+
+    /**
+     * Checks if the sprite collides with another one. Sprites touching on a side collide, so that the hero standing
+     * on an obstacle keeps touching it
+     *
+     * @param other the other sprite
+     * @return true if the boxes of the sprites overlap or touch
+     */
+    public boolean intersects(Sprite other) {
+        return AabbUtils.intersects(x, y, width, height, other.x, other.y, other.width, other.height);
+    }
+
+    public float getX() {
+        return x;
+    }
+
+    public float getY() {
+        return y;
+    }
+
+    public float getWidth() {
+        return width;
+    }
+
+    public float getHeight() {
+        return height;
+    }
+
+    /**
+     * Position setter
+     *
+     * @param x x coordinate
+     * @param y y coordiante
+     */
+    public void setPosition(float x, float y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Coordinate x setter
+     *
+     * @param x x coordinate
+     */
+    public void setX(float x) {
+        this.x = x;
+    }
+
+    /**
+     * Coordinate y setter
+     *
+     * @param y y coordinate
+     */
+    public void setY(float y) {
+        this.y = y;
+    }
+
+    /**
+     * Size setter
+     *
+     * @param width  the width of the sprite
+     * @param height the height of the sprite
+     */
+    public void setSize(float width, float height) {
+        this.width = width;
+        this.height = height;
+    }
+}
@@ -0,0 +1,39 @@
+package it.unisa.theneverendingrun.models;
+
+/**
+ * The dimensions of the world the game takes place in, which are those of the screen it is drawn on.
+ * The gameplay rules read the dimensions from here rather than from the graphics, so that they also run headless.
+ */
+public final class World {
+
+    private final int width;
+    private final int height;
+
+    /**
+     * @param width  the width of the world
+     * @param height the height of the world
+     * @throws IllegalArgumentException if {@code width} or {@code height} are less than 1
+     */
+    public World(int width, int height) {
+        if (width < 1)
+            throw new IllegalArgumentException("Width must be greater or equal than 1.");
+        if (height < 1)
+            throw new IllegalArgumentException("Height must be greater or equal than 1.");
+
+        this.width = width;
+        this.height = height;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public String toString() {
+        return "World " + width + "x" + height;
+    }
+}
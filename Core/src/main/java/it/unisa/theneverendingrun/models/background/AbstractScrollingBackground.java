@@ -1,31 +1,32 @@
 package it.unisa.theneverendingrun.models.background;
 
-import com.badlogic.gdx.graphics.Texture;
-
 public abstract class AbstractScrollingBackground extends Background {
 
+    private final float initialScrollAmount;
     private float scrollAmount;
     private float scrollingSpeed;
     private float scrollWidth;
 
-    AbstractScrollingBackground(Texture texture, int backgroundWidth, int backgroundHeight, float scrollAmount, float scrollingSpeed, float scrollWidth) {
-        super(texture, backgroundWidth, backgroundHeight);
+    AbstractScrollingBackground(int backgroundWidth, int backgroundHeight, float scrollAmount, float scrollingSpeed, float scrollWidth) {
+        super(backgroundWidth, backgroundHeight);
+        this.initialScrollAmount = scrollAmount;
         setScrollAmount(scrollAmount);
         setScrollingSpeed(scrollingSpeed);
         setScrollWidth(scrollWidth);
-        initScroll();
     }
 
-    AbstractScrollingBackground(Texture texture, int backgroundWidth, int backgroundHeight, float scrollingSpeed, float scrollWidth) {
-        this(texture, backgroundWidth, backgroundHeight, 0, scrollingSpeed, scrollWidth);
+    AbstractScrollingBackground(int backgroundWidth, int backgroundHeight, float scrollingSpeed, float scrollWidth) {
+        this(backgroundWidth, backgroundHeight, 0, scrollingSpeed, scrollWidth);
     }
 
+    public abstract void scroll();
+
     /**
-     * Initialize scrolling parameters
+     * Scrolls the background back to where it is when a run starts
      */
-    public abstract void initScroll();
-
-    public abstract void scroll();
+    public void reset() {
+        setScrollAmount(initialScrollAmount);
+    }
 
     public float getScrollAmount() {
         return scrollAmount;
@@ -0,0 +1,16 @@
+package it.unisa.theneverendingrun.models.background;
+
+import it.unisa.theneverendingrun.models.Sprite;
+
+public class Background extends Sprite {
+
+    /**
+     * Background constructor. Set the initial height and width
+     *
+     * @param width  width of the background
+     * @param height height of the background
+     */
+    Background(int width, int height) {
+        super(width, height);
+    }
+}
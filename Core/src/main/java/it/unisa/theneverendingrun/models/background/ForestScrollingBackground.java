@@ -0,0 +1,13 @@
+package it.unisa.theneverendingrun.models.background;
+
+public class ForestScrollingBackground extends AbstractScrollingBackground {
+
+    public ForestScrollingBackground(int width, int height, float scrollingSpeed, float scrollWidth) {
+        super(width, height, scrollingSpeed, scrollWidth);
+    }
+
+    @Override
+    public void scroll() {
+        setScrollAmount(getScrollAmount() + getScrollWidth() * getScrollingSpeed());
+    }
+}
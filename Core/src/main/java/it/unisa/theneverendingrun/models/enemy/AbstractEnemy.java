@@ -0,0 +1,111 @@
+package it.unisa.theneverendingrun.models.enemy;
+
+import it.unisa.theneverendingrun.models.Spawnable;
+import it.unisa.theneverendingrun.models.SpawnableTypes;
+import it.unisa.theneverendingrun.models.hero.Hero;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+public abstract class AbstractEnemy extends Spawnable {
+
+    /**
+     * The bus of the events of all the enemies of the game, which tells the animator about the fight state changes
+     */
+    private final EnemyEventBus events;
+
+    /**
+     * The only instance of each fight state of this enemy, reused each time the enemy enters it
+     */
+    private final Map<EnemyFightStateType, EnemyFightState> fightStates = new EnumMap<>(EnemyFightStateType.class);
+
+    private EnemyFightState fightState;
+
+    /**
+     * Enemy constructor. Sets its bottom-left coordinates and speed, while its horizontal velocity is set to 0
+     *
+     * @param x bottom-left x coordinate
+     * @param y bottom-left y coordinate
+     */
+
+    private EnemyAnimator animator;
+
+    public AbstractEnemy(EnemyAnimator animator, EnemyEventBus events) {
+        this.animator = animator;
+        this.events = events;
+
+        fightStates.put(EnemyFightStateType.IDLE, new EnemyIdleState(this));
+        fightStates.put(EnemyFightStateType.ATTACK, new EnemyAttackState(this));
+        fightStates.put(EnemyFightStateType.DEAD, new EnemyDeadState(this));
+
+        changeFightState(EnemyFightStateType.IDLE);
+    }
+
+    @Override
+    public void setSize(float width, float height) {
+        super.setSize(width, height);
+    }
+
+
+    /**
+     * Brings the enemy back to its idle state, restarting its animation
+     */
+    @Override
+    public void reset() {
+        changeFightState(EnemyFightStateType.IDLE);
+    }
+
+    /* ------------------------------------- GETTERS ------------------------------------- */
+
+
+    public EnemyFightState getFightState() {
+        return fightState;
+    }
+
+    public boolean isAttacking() {
+        return fightState.getType() == EnemyFightStateType.ATTACK;
+    }
+
+    public boolean isDead() {
+        return fightState.getType() == EnemyFightStateType.DEAD;
+    }
+
+    public EnemyAnimator getAnimator() {
+        return animator;
+    }
+
+    @Override
+    public SpawnableTypes getType() {
+        return animator.getType();
+    }
+
+    /* ------------------------------------- SETTERS ------------------------------------- */
+
+
+    /**
+     * Changes the fight state of the enemy to its instance of the state of type {@code type}, restarting its animation
+     *
+     * @param type the type of the new fight state
+     */
+    public void changeFightState(EnemyFightStateType type) {
+        this.fightState = fightStates.get(type);
+        animator.resetStateTime();
+        events.post(EnemyEventType.ENEMY_FIGHT_STATE_CHANGED, this);
+    }
+
+
+    /* ------------------------------------- COLLISION ------------------------------------- */
+
+    @Override
+    public void beginCollision(Hero hero) {
+        this.getFightState().onAttack();
+        hero.die();
+    }
+
+    @Override
+    public void endCollision(Hero hero) {
+        this.getFightState().onIdle();
+    }
+
+}
+
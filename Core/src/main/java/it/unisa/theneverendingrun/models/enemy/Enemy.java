@@ -0,0 +1,39 @@
+package it.unisa.theneverendingrun.models.enemy;
+
+import it.unisa.theneverendingrun.models.hero.Hero;
+
+import java.util.Random;
+
+public class Enemy extends AbstractEnemy {
+
+    /**
+     * The hero the enemy is sized on
+     */
+    private final Hero hero;
+
+    /**
+     * The ratios of the size of the enemy to the size of the hero
+     */
+    private final float widthRatio;
+    private final float heightRatio;
+
+    public Enemy(EnemyAnimator animator, EnemyEventBus events, Hero hero, float widthRatio, float heightRatio) {
+        super(animator, events);
+        this.hero = hero;
+        this.widthRatio = widthRatio;
+        this.heightRatio = heightRatio;
+        fitHero();
+    }
+
+    /**
+     * Sizes the enemy on the hero as it is when the enemy enters the game
+     */
+    @Override
+    public void generateDimensions(Random random) {
+        fitHero();
+    }
+
+    private void fitHero() {
+        super.setSize(hero.getWidth() * widthRatio, hero.getHeight() * heightRatio);
+    }
+}
@@ -0,0 +1,30 @@
+package it.unisa.theneverendingrun.models.enemy;
+
+/**
+ * An enumeration containing all the animations an enemy can play, each one related to one or more {@link EnemyFightState}
+ */
+public enum EnemyAnimationType {
+
+    /**
+     * The animation played while the enemy is idle
+     */
+    IDLE("idle"),
+
+    /**
+     * The animation played while the enemy is attacking
+     */
+    ATTACK("attack");
+
+    /**
+     * The name of the animation frames, i.e. the part of the file name between the enemy name and the frame number
+     */
+    private final String frameName;
+
+    EnemyAnimationType(String frameName) {
+        this.frameName = frameName;
+    }
+
+    public String getFrameName() {
+        return frameName;
+    }
+}
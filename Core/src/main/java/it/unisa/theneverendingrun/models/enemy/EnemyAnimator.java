@@ -0,0 +1,105 @@
+package it.unisa.theneverendingrun.models.enemy;
+
+import it.unisa.theneverendingrun.models.SpawnableTypes;
+
+/**
+ * The per-enemy animation state: the time spent in the current fight state and the {@link EnemyAnimationType} the
+ * enemy is playing, which changes when the {@link EnemyEventBus} dispatches a fight state change of the enemy.
+ * The animator only tells which frame the enemy shows; the renderer draws it.
+ */
+public class EnemyAnimator implements EnemyFightStateListener {
+
+    /**
+     * The duration of each animation frame, in seconds
+     */
+    public static final float FRAME_DURATION = 0.1f;
+
+    /**
+     * The type of the animated enemy
+     */
+    private final SpawnableTypes type;
+
+    /**
+     * The number of frames of each animation
+     */
+    private final int frames;
+
+    private float stateTime = 0;
+
+    // every enemy starts idle, so it has an animation before its first event is dispatched
+    private EnemyAnimationType animationType = EnemyAnimationType.IDLE;
+
+    /**
+     * The animation and the index of the frame the enemy shows, as of the last {@link #updateImageFrame}
+     */
+    private EnemyAnimationType frameAnimationType = EnemyAnimationType.IDLE;
+    private int frameIndex = 0;
+
+    public EnemyAnimator(SpawnableTypes type, int frames) {
+        if (frames < 1)
+            throw new IllegalArgumentException("frames must be greater or equal than 1.");
+
+        this.type = type;
+        this.frames = frames;
+    }
+
+    @Override
+    public void update(EnemyEventType eventType, AbstractEnemy enemy) {
+        var stateAnimationType = enemy.getFightState().getAnimationType();
+        if (stateAnimationType != null)
+            animationType = stateAnimationType;
+    }
+
+    /**
+     * Picks the frame of the current animation the enemy shows, looping the animation while the enemy is idle
+     *
+     * @param enemy the animated enemy
+     */
+    public void updateImageFrame(AbstractEnemy enemy) {
+        var looping = enemy.getFightState().getType() == EnemyFightStateType.IDLE;
+        var frameNumber = (int) (stateTime / FRAME_DURATION);
+
+        frameAnimationType = animationType;
+        frameIndex = looping ? frameNumber % frames : Math.min(frames - 1, frameNumber);
+    }
+
+    /**
+     * @return true if the current animation, played without looping, has shown its last frame for a whole frame
+     */
+    public boolean isAnimationFinished() {
+        return frames - 1 < (int) (stateTime / FRAME_DURATION);
+    }
+
+    /**
+     * @return the animation the enemy shows a frame of
+     */
+    public EnemyAnimationType getFrameAnimationType() {
+        return frameAnimationType;
+    }
+
+    /**
+     * @return the index of the frame the enemy shows in its animation
+     */
+    public int getFrameIndex() {
+        return frameIndex;
+    }
+
+    /**
+     * @return the type of the animated enemy
+     */
+    public SpawnableTypes getType() {
+        return type;
+    }
+
+    public float getStateTime() {
+        return stateTime;
+    }
+
+    public void resetStateTime() {
+        this.stateTime = 0;
+    }
+
+    public void updateStateTime(float deltaTime) {
+        this.stateTime += deltaTime;
+    }
+}
@@ -0,0 +1,35 @@
+package it.unisa.theneverendingrun.models.enemy;
+
+public class EnemyAttackState extends EnemyFightState {
+
+    public EnemyAttackState(AbstractEnemy enemy) {
+        super(enemy);
+    }
+
+    @Override
+    public EnemyFightStateType getType() {
+        return EnemyFightStateType.ATTACK;
+    }
+
+    @Override
+    public void onIdle() {
+        if (enemy.getAnimator().isAnimationFinished()) {
+            enemy.changeFightState(EnemyFightStateType.IDLE);
+        }
+    }
+
+    @Override
+    public void onAttack() {
+
+    }
+
+    @Override
+    public void onDie() {
+        enemy.changeFightState(EnemyFightStateType.DEAD);
+    }
+
+    @Override
+    public EnemyAnimationType getAnimationType() {
+        return EnemyAnimationType.ATTACK;
+    }
+}
@@ -6,6 +6,11 @@ public class EnemyDeadState extends EnemyFightState {
         super(enemy);
     }
 
+    @Override
+    public EnemyFightStateType getType() {
+        return EnemyFightStateType.DEAD;
+    }
+
     @Override
     public void onIdle() {
     }
@@ -17,4 +22,9 @@ public class EnemyDeadState extends EnemyFightState {
     @Override
     public void onDie() {
     }
+
+    @Override
+    public EnemyAnimationType getAnimationType() {
+        return null;
+    }
 }
@@ -0,0 +1,130 @@
+package it.unisa.theneverendingrun.models.enemy;
+
+import java.util.Arrays;
+
+/**
+ * The bus of the events of all the enemies of a game.
+ * The events are posted while the enemies change and queued, then dispatched together by {@link #dispatch()} at the
+ * end of a tick, so that the listeners run in one pass instead of inside the changes of each enemy.
+ * The listeners and the queue are arrays indexed by the ordinal of the event types, which grow only while the game
+ * warms up, so posting and dispatching events allocate nothing.
+ */
+public class EnemyEventBus {
+
+    private static final int INITIAL_LISTENERS = 2;
+    private static final int INITIAL_QUEUE_CAPACITY = 16;
+
+    /**
+     * The listeners of each event type, indexed by its ordinal, and the number of them
+     */
+    private final EnemyFightStateListener[][] listeners;
+    private final int[] listenerCounts;
+
+    /**
+     * The types and the enemies of the events posted and not dispatched yet, in the order they were posted
+     */
+    private EnemyEventType[] queuedTypes = new EnemyEventType[INITIAL_QUEUE_CAPACITY];
+    private AbstractEnemy[] queuedEnemies = new AbstractEnemy[INITIAL_QUEUE_CAPACITY];
+    private int queued;
+
+    /**
+     * Statistics: the number of events of each type dispatched, indexed by its ordinal
+     */
+    private final long[] dispatched;
+
+    public EnemyEventBus() {
+        var types = EnemyEventType.values().length;
+        listeners = new EnemyFightStateListener[types][INITIAL_LISTENERS];
+        listenerCounts = new int[types];
+        dispatched = new long[types];
+    }
+
+    /**
+     * Subscribes {@code listener} to the events of type {@code eventType}
+     *
+     * @param eventType the type of the events {@code listener} is told about
+     * @param listener  the listener to subscribe
+     */
+    public void subscribe(EnemyEventType eventType, EnemyFightStateListener listener) {
+        var type = eventType.ordinal();
+        if (listenerCounts[type] == listeners[type].length)
+            listeners[type] = Arrays.copyOf(listeners[type], 2 * listeners[type].length);
+        listeners[type][listenerCounts[type]++] = listener;
+    }
+
+    /**
+     * Unsubscribes {@code listener} from the events of type {@code eventType}, if it was subscribed
+     *
+     * @param eventType the type of the events {@code listener} was told about
+     * @param listener  the listener to unsubscribe
+     */
+    public void unsubscribe(EnemyEventType eventType, EnemyFightStateListener listener) {
+        var type = eventType.ordinal();
+        var typeListeners = listeners[type];
+        for (int i = 0; i < listenerCounts[type]; i++) {
+            if (typeListeners[i] == listener) {
+                System.arraycopy(typeListeners, i + 1, typeListeners, i, listenerCounts[type] - i - 1);
+                typeListeners[--listenerCounts[type]] = null;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Queues an event, dispatched to its listeners by the next {@link #dispatch()}
+     *
+     * @param eventType the type of the event
+     * @param enemy     the enemy the event is about
+     */
+    void post(EnemyEventType eventType, AbstractEnemy enemy) {
+        if (queued == queuedTypes.length) {
+            queuedTypes = Arrays.copyOf(queuedTypes, 2 * queued);
+            queuedEnemies = Arrays.copyOf(queuedEnemies, 2 * queued);
+        }
+        queuedTypes[queued] = eventType;
+        queuedEnemies[queued] = enemy;
+        queued++;
+    }
+
+    /**
+     * Dispatches the queued events to their listeners, in the order they were posted. The events posted by the
+     * listeners are dispatched in the same pass
+     */
+    public void dispatch() {
+        for (int i = 0; i < queued; i++) {
+            var eventType = queuedTypes[i];
+            var enemy = queuedEnemies[i];
+            queuedEnemies[i] = null;
+
+            var type = eventType.ordinal();
+            var typeListeners = listeners[type];
+            for (int j = 0; j < listenerCounts[type]; j++)
+                typeListeners[j].update(eventType, enemy);
+            dispatched[type]++;
+        }
+        queued = 0;
+    }
+
+    /**
+     * @return the number of events posted and not dispatched yet
+     */
+    public int getQueued() {
+        return queued;
+    }
+
+    /**
+     * @param eventType an event type
+     * @return the number of events of {@code eventType} dispatched since the bus was created
+     */
+    public long getDispatched(EnemyEventType eventType) {
+        return dispatched[eventType.ordinal()];
+    }
+
+    @Override
+    public String toString() {
+        var builder = new StringBuilder("EnemyEventBus{");
+        for (var eventType : EnemyEventType.values())
+            builder.append(eventType).append('=').append(dispatched[eventType.ordinal()]).append(", ");
+        return builder.append("queued=").append(queued).append('}').toString();
+    }
+}
@@ -0,0 +1,31 @@
+package it.unisa.theneverendingrun.models.enemy;
+
+/**
+ * The State representing if the enemy is idle, attacking or dead.
+ * Each enemy has one instance of each state, which it changes to by its {@link EnemyFightStateType}
+ */
+public abstract class EnemyFightState {
+
+    protected AbstractEnemy enemy;
+
+    public EnemyFightState(AbstractEnemy enemy) {
+        this.enemy = enemy;
+    }
+
+    /**
+     * @return the type of this fight state
+     */
+    public abstract EnemyFightStateType getType();
+
+    public abstract void onIdle();
+
+    public abstract void onAttack();
+
+    public abstract void onDie();
+
+    /**
+     * @return the animation the enemy plays while in this state, or null to keep playing the current one
+     */
+    public abstract EnemyAnimationType getAnimationType();
+
+}
@@ -0,0 +1,23 @@
+package it.unisa.theneverendingrun.models.enemy;
+
+/**
+ * An enumeration containing all the fight states an enemy can be in, each one held by a single
+ * {@link EnemyFightState} the enemy allocates when it is created
+ */
+public enum EnemyFightStateType {
+
+    /**
+     * The enemy is waiting for the hero
+     */
+    IDLE,
+
+    /**
+     * The enemy is attacking the hero
+     */
+    ATTACK,
+
+    /**
+     * The enemy is dead
+     */
+    DEAD
+}
@@ -0,0 +1,32 @@
+package it.unisa.theneverendingrun.models.enemy;
+
+public class EnemyIdleState extends EnemyFightState {
+
+    public EnemyIdleState(AbstractEnemy enemy) {
+        super(enemy);
+    }
+
+    @Override
+    public EnemyFightStateType getType() {
+        return EnemyFightStateType.IDLE;
+    }
+
+    @Override
+    public void onIdle() {
+    }
+
+    @Override
+    public void onAttack() {
+        enemy.changeFightState(EnemyFightStateType.ATTACK);
+    }
+
+    @Override
+    public void onDie() {
+        enemy.changeFightState(EnemyFightStateType.DEAD);
+    }
+
+    @Override
+    public EnemyAnimationType getAnimationType() {
+        return EnemyAnimationType.IDLE;
+    }
+}
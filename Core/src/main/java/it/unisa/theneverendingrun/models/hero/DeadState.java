@@ -61,6 +61,11 @@ public class DeadState extends HeroMoveState {
     public void onDie() {
     }
 
+    @Override
+    public HeroMoveStateType getType() {
+        return HeroMoveStateType.DEAD;
+    }
+
     @Override
     public String toString() {
         return "dead";
@@ -5,10 +5,15 @@ package it.unisa.theneverendingrun.models.hero;
  */
 public class FallState extends HeroMoveState {
 
+    /**
+     * The fall step the hero starts falling from, unless it keeps falling along a jump parabola
+     */
+    private static final int INITIAL_GRAVITY = 1;
+
     /**
      * A variable representing the fall step the hero actually is in
      */
-    private int gravity;
+    private int gravity = INITIAL_GRAVITY;
 
     /**
      * Sets the hero for holding its move state
@@ -16,14 +21,25 @@ public class FallState extends HeroMoveState {
      * @param hero the hero which move state is held
      */
     public FallState(Hero hero) {
-        this(hero, 1);
+        super(hero);
     }
 
-    public FallState(Hero hero, int gravity) {
-        super(hero);
-        this.gravity = gravity;
+    /**
+     * Sets the fall step to its initial value, as the fall starts
+     */
+    @Override
+    void reset() {
+        gravity = INITIAL_GRAVITY;
     }
 
+    /**
+     * Sets the fall step the hero is in, so that a fall continues the descending branch of a jump parabola
+     *
+     * @param gravity the fall step
+     */
+    void setGravity(int gravity) {
+        this.gravity = gravity;
+    }
 
     /**
      * Updates the hero bottom-left coordinates and sprite
@@ -39,10 +55,10 @@ public class FallState extends HeroMoveState {
      * Performs a fall step, updating the hero bottom-left y coordinate according to a parabola-like formula
      */
     private void fall() {
-        var newY = (float) Math.max(hero.getGroundY(), hero.getY() - (gravity * gravity) * hero.getJumpCoefficient());
+        var newY = (float) Math.max(hero.getGroundY(), hero.getY() - hero.getJumpTrajectory().getStepOffset(gravity));
         hero.setY(newY);
         gravity++;
-        if (!hero.isAboveGround()) hero.changeMoveState(new IdleState(hero));
+        if (!hero.isAboveGround()) hero.changeMoveState(HeroMoveStateType.IDLE);
     }
 
     /**
@@ -50,7 +66,7 @@ public class FallState extends HeroMoveState {
      */
     @Override
     public void onIdle() {
-        hero.changeMoveState(new IdleState(hero));
+        hero.changeMoveState(HeroMoveStateType.IDLE);
     }
 
     /**
@@ -80,7 +96,12 @@ public class FallState extends HeroMoveState {
      */
     @Override
     public void onDie() {
-        hero.changeMoveState(new DeadState(hero));
+        hero.changeMoveState(HeroMoveStateType.DEAD);
+    }
+
+    @Override
+    public HeroMoveStateType getType() {
+        return HeroMoveStateType.FALL;
     }
 
     @Override
@@ -1,22 +1,28 @@
 package it.unisa.theneverendingrun.models.hero;
 
-import com.badlogic.gdx.graphics.Texture;
-
 public class ForestHero extends Hero {
 
     final static float SCALE_FACTOR = 3.0f;
 
-    private final static Texture texture = new Texture("stand.png");
+    /**
+     * The resource holding the measures of the frames of the forest hero
+     */
+    private final static String FRAMES_PATH = "forest_hero.properties";
 
-    public ForestHero(Texture texture, float x, float y) {
-        super(texture, x, y);
+    public ForestHero(HeroFrames frames, float x, float y) {
+        super(frames, x, y);
         setSize(getWidth() * SCALE_FACTOR, getHeight() * SCALE_FACTOR);
         setStandardWidth(getWidth());
         setStandardHeight(getHeight());
     }
 
-    public ForestHero(float baseX, float baseY) {
-        this(texture, baseX, baseY);
+    /**
+     * Reads the measures of the frames of the forest hero
+     *
+     * @return the measures of the frames
+     */
+    public static HeroFrames readFrames() {
+        return HeroFrames.read(FRAMES_PATH);
     }
 
     /*
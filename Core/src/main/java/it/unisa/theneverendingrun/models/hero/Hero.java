@@ -1,12 +1,10 @@
 package it.unisa.theneverendingrun.models.hero;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import it.unisa.theneverendingrun.models.Sprite;
 import it.unisa.theneverendingrun.utilities.MathUtils;
 
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.Map;
 
 public abstract class Hero extends Sprite {
@@ -21,6 +19,11 @@ public abstract class Hero extends Sprite {
      */
     private static final int SLIDE_DURATION = 45;
 
+    /**
+     * The seconds each frame of the run animation is shown for
+     */
+    private static final float RUN_FRAME_DURATION = 0.05f;
+
     /**
      * Bottom-left original x coordinate, i.e. where the hero appears when it's created
      */
@@ -46,15 +49,32 @@ public abstract class Hero extends Sprite {
      */
     private float standardWidth;
 
+    /**
+     * The tables of the jump parabola, built for the standard height and rebuilt only when it changes
+     */
+    private JumpTrajectory jumpTrajectory = new JumpTrajectory(0, JUMP_DURATION);
+
     /**
      * A variable representing if the hero is jumping, sliding or none of them
      */
     private HeroMoveState moveState;
+
+    /**
+     * The move states of the hero, one per type, allocated once and reset as the hero enters them
+     */
+    private final Map<HeroMoveStateType, HeroMoveState> moveStates = new EnumMap<>(HeroMoveStateType.class);
+    private final FallState fallState;
     /**
      * A variable representing whether the hero is facing left or right
      */
     private HeroFacingState facingState;
 
+    /**
+     * The facing states of the hero, allocated once
+     */
+    private final HeroFacingState leftState;
+    private final HeroFacingState rightState;
+
     /**
      * A variable representing the jump step the hero actually is in
      */
@@ -66,151 +86,169 @@ public abstract class Hero extends Sprite {
     private int slideCount;
 
     /**
-     * Abstract Hero constructor. Sets its bottom-left coordinates and speed, while its horizontal velocity is set to 0
+     * The frame the hero shows: the move state it belongs to, null for the frame the hero shows when a run starts,
+     * its index and whether it was picked facing left
+     */
+    private HeroMoveStateType frameState;
+    private int frameIndex;
+    private boolean frameLeft;
+
+    /**
+     * The frame and the size the hero has when a run starts
+     */
+    private HeroMoveStateType startFrameState;
+    private int startFrameIndex;
+    private boolean startFrameLeft;
+    private float startWidth;
+    private float startHeight;
+
+    /**
+     * Abstract Hero constructor. Sets its bottom-left coordinates and speed, while its horizontal velocity is set to 0.
+     * The hero has the size of the frame it shows when a run starts
      *
-     * @param x     bottom-left x coordinate
-     * @param y     bottom-left y coordinate
+     * @param frames the measures of the frames of the hero
+     * @param x      bottom-left x coordinate
+     * @param y      bottom-left y coordinate
      */
-    protected Hero(Texture texture, float x, float y) {
-        super(texture);
+    protected Hero(HeroFrames frames, float x, float y) {
+        super(frames.getStandWidth(), frames.getStandHeight());
+        this.frames = frames;
         setX(x);
         setY(y);
         this.groundX = x;
         this.groundY = y;
         this.dx = 0;
 
-        initAnimations();
+        fallState = new FallState(this);
+        moveStates.put(HeroMoveStateType.IDLE, new IdleState(this));
+        moveStates.put(HeroMoveStateType.JUMP, new JumpState(this));
+        moveStates.put(HeroMoveStateType.SLIDE, new SlideState(this));
+        moveStates.put(HeroMoveStateType.FALL, fallState);
+        moveStates.put(HeroMoveStateType.DEAD, new DeadState(this));
 
-        this.moveState = new IdleState(this);
-        this.facingState = new RightState(this);
+        this.moveState = moveStates.get(HeroMoveStateType.IDLE);
+        leftState = new LeftState(this);
+        rightState = new RightState(this);
+        this.facingState = rightState;
     }
 
+    /**
+     * The measures of the frames of each move state: the run while the hero is idle, a single frame while it jumps,
+     * falls or slides, none when it is dead
+     */
+    private final HeroFrames frames;
 
+    /**
+     * The time the animation of each move state has been played for, indexed by {@link HeroMoveStateType#ordinal()}
+     */
+    private final float[] stateTimes = new float[HeroMoveStateType.values().length];
 
+    /**
+     * @param type a move state
+     * @return true if the move state has an animation of more than one frame, which is drawn at the standing size
+     * of the hero, false if it has a single frame, to which the hero is resized, or none
+     */
+    private boolean isAnimated(HeroMoveStateType type) {
+        return frames.getFrameCount(type) > 1;
+    }
 
+    /**
+     * @param type an animated move state
+     * @return the index of the frame of the move state shown at the time its animation has been played for, as the
+     * animation loops
+     */
+    private int getKeyFrameIndex(HeroMoveStateType type) {
+        return (int) (stateTimes[type.ordinal()] / RUN_FRAME_DURATION) % frames.getFrameCount(type);
+    }
 
+    /**
+     * Stores the current frame and size as the ones the hero shows when a run starts
+     */
+    public void saveStartFrame() {
+        startFrameState = frameState;
+        startFrameIndex = frameIndex;
+        startFrameLeft = frameLeft;
+        startWidth = getWidth();
+        startHeight = getHeight();
+    }
 
+    /**
+     * Brings the hero back to the state it has when a run starts
+     */
+    public void reset() {
+        this.moveState = moveStates.get(HeroMoveStateType.IDLE);
+        this.facingState = rightState;
+        this.dx = 0;
+        this.jumpCount = 0;
+        this.slideCount = 0;
+        Arrays.fill(stateTimes, 0);
 
-
-    private Map<Class<?>, Animation<TextureRegion>> animations;
-    private Map<Class<?>, Float> deltaTime;
-
-
-    public void initAnimations() {
-        animations = new HashMap<>();
-        deltaTime = new HashMap<>();
-
-        var tVect = new TextureRegion[8];
-        for (int i = 1; i <= 8; i++) {
-            TextureRegion t = new TextureRegion(new Texture("images/forest/hero/run/hero_run_" + i + ".png"));
-            tVect[i - 1] = t;
-        }
-
-        /*
-        var run = new Texture(Gdx.files.internal("runSheet.png"));
-        var runTextures = TextureSheets.split(run, 1,8);*/
-        var runAnimation = new Animation<>(0.05f, tVect);
-        animations.put(IdleState.class, runAnimation);
-        deltaTime.put(IdleState.class, 0F);
-
-        // animations.put(2)
+        frameState = startFrameState;
+        frameIndex = startFrameIndex;
+        frameLeft = startFrameLeft;
+        setSize(startWidth, startHeight);
+        setPosition(groundX, groundY);
+        preUpdate();
     }
 
     public void updateDelta(float delta) {
-        deltaTime.entrySet().forEach((map) -> map.setValue(map.getValue()+delta));
+        for (int state = 0; state < stateTimes.length; state++)
+            stateTimes[state] += delta;
     }
 
     public void changeState() {
+        var type = moveState.getType();
+        var frameCount = frames.getFrameCount(type);
 
-        Texture texture = null;
-
-        if (isSliding()) {
-            texture = new Texture("slide.png");
-            var region = new TextureRegion(texture);
-            if (isLeft())
-                region.flip(true, false);
-            setRegion(region);
-
-            setSize(texture.getWidth() * ForestHero.SCALE_FACTOR, texture.getHeight() * ForestHero.SCALE_FACTOR);
-
+        if (frameCount == 1) {
+            showFrame(type, 0);
+            setSize(frames.getWidth(type) * ForestHero.SCALE_FACTOR, frames.getHeight(type) * ForestHero.SCALE_FACTOR);
             return;
-        } else {
-            texture = new Texture("jump.png");
-            setSize(texture.getWidth() * ForestHero.SCALE_FACTOR, texture.getHeight() * ForestHero.SCALE_FACTOR);
-
         }
 
-        var animation = animations.get(getMoveState().getClass());
-        if (animation != null) {
-            var delta = deltaTime.get(getMoveState().getClass());
-            var frame = animation.getKeyFrame(delta, true);
-            var newFrame = new TextureRegion(frame);
-            if (isLeft()) {
-                int pixels = pixelWidth(newFrame);
-                // newFrame.setRegionWidth(pixels);
-                //newFrame.set
-                newFrame.flip(true, false);
-                //System.out.println(getX());
-                setX(getX() - pixels);
-                //System.out.println(getX());
-
-            }
-            setRegion(newFrame);
+        // the standing size, which is the one of the jump frame
+        setSize(frames.getWidth(HeroMoveStateType.JUMP) * ForestHero.SCALE_FACTOR,
+                frames.getHeight(HeroMoveStateType.JUMP) * ForestHero.SCALE_FACTOR);
 
-            return;
-        }
-
-        if (isJumping()) {
-            texture = new Texture("jump.png");
-            var region = new TextureRegion(texture);
+        if (frameCount > 0) {
+            var frameIndex = getKeyFrameIndex(type);
             if (isLeft())
-                region.flip(true, false);
-            setRegion(region);
-
-            setSize(texture.getWidth() * ForestHero.SCALE_FACTOR, texture.getHeight() * ForestHero.SCALE_FACTOR);
-
-            return;
+                setX(getX() - getLeftOffset(type, frameIndex));
+            showFrame(type, frameIndex);
         }
+    }
 
-        if (isFalling()) {
-            texture = new Texture("fall.png");
-            var region = new TextureRegion(texture);
-            if (isLeft())
-                region.flip(true, false);
-            setRegion(region);
+    public void updateImageFrame() {
+        var type = moveState.getType();
+        if (!isAnimated(type))
+            return;
 
-            setSize(texture.getWidth() * ForestHero.SCALE_FACTOR, texture.getHeight() * ForestHero.SCALE_FACTOR);
-        }
+        var frameIndex = getKeyFrameIndex(type);
+        if (isLeft())
+            setX(getX() - (getLeftOffset(type, frameIndex) / getWidth()) - getDx());
+        showFrame(type, frameIndex);
     }
 
-    public void updateImageFrame() {
+    /**
+     * Makes the hero show a frame of a move state, facing the side it is facing
+     *
+     * @param type       the move state
+     * @param frameIndex the index of the frame
+     */
+    private void showFrame(HeroMoveStateType type, int frameIndex) {
+        this.frameState = type;
+        this.frameIndex = frameIndex;
+        this.frameLeft = isLeft();
+    }
 
-        var animation = animations.get(getMoveState().getClass());
-        if (animation != null) {
-            var delta = deltaTime.get(getMoveState().getClass());
-            var frame = animation.getKeyFrame(delta, true);
-            var newFrame = new TextureRegion(frame);
-            if(isLeft()) {
-                int pixels = pixelWidth(newFrame);
-                // newFrame.setRegionWidth(pixels);
-                //newFrame.set
-                //System.out.println(getX());
-                //setX(getX()-pixels);
-               // System.out.println(pixels);
-                //translateX(-27);
-                //System.out.println(getWidth());
-               // setX(getX() - (getWidth() - (pixels*getWidth())));
-               setX(getX() - (pixels/getWidth()) - getDx());
-                newFrame.flip(true, false);
-            }
-            setRegion(newFrame);
-            return;
-        }
-      /*  var animation = animations.get(1);
-        stateTime += Gdx.graphics.getDeltaTime();
-        var region = animation.getKeyFrame(stateTime, true);
-        setRegion(region);
-        region.flip(true, false);*/
+    /**
+     * @param type       an animated move state
+     * @param frameIndex the index of a frame of its animation
+     * @return the pixels the hero is moved back by when facing left: the blank columns on the right side of the
+     * frame plus one, as the hero has always been measured
+     */
+    private int getLeftOffset(HeroMoveStateType type, int frameIndex) {
+        return frames.getRightInset(type, frameIndex) + 1;
     }
 
     /* ------------------------------------- GETTERS ------------------------------------- */
@@ -263,6 +301,13 @@ public abstract class Hero extends Sprite {
         return moveState;
     }
 
+    /**
+     * @return the type of the move state in which the hero is
+     */
+    public HeroMoveStateType getMoveStateType() {
+        return moveState.getType();
+    }
+
     /**
      * checks if the hero is moving depending on its current horizontal velocity
      *
@@ -278,7 +323,7 @@ public abstract class Hero extends Sprite {
      * @return true if the hero is jumping, false otherwise
      */
     public boolean isJumping() {
-        return this.getMoveState() instanceof JumpState;
+        return moveState.getType() == HeroMoveStateType.JUMP;
     }
 
     /**
@@ -287,7 +332,7 @@ public abstract class Hero extends Sprite {
      * @return true if the hero is sliding, false otherwise
      */
     public boolean isSliding() {
-        return this.getMoveState() instanceof SlideState;
+        return moveState.getType() == HeroMoveStateType.SLIDE;
     }
 
     /**
@@ -296,7 +341,7 @@ public abstract class Hero extends Sprite {
      * @return true if the hero is falling, false otherwise
      */
     public boolean isFalling() {
-        return this.getMoveState() instanceof FallState;
+        return moveState.getType() == HeroMoveStateType.FALL;
     }
 
     /**
@@ -305,7 +350,7 @@ public abstract class Hero extends Sprite {
      * @return true if the hero is dead, false otherwise
      */
     public boolean isDead() {
-        return this.getMoveState() instanceof DeadState;
+        return moveState.getType() == HeroMoveStateType.DEAD;
     }
 
     /**
@@ -361,7 +406,7 @@ public abstract class Hero extends Sprite {
      * @return true if the hero is facing right, else otherwise
      */
     public boolean isRight() {
-        return facingState instanceof RightState;
+        return facingState == rightState;
     }
 
     /**
@@ -370,7 +415,28 @@ public abstract class Hero extends Sprite {
      * @return true if the hero is facing left, else otherwise
      */
     public boolean isLeft() {
-        return facingState instanceof LeftState;
+        return facingState == leftState;
+    }
+
+    /**
+     * @return the move state of the frame the hero shows, null for the frame it shows when a run starts
+     */
+    public HeroMoveStateType getFrameState() {
+        return frameState;
+    }
+
+    /**
+     * @return the index of the frame the hero shows among the ones of its move state
+     */
+    public int getFrameIndex() {
+        return frameIndex;
+    }
+
+    /**
+     * @return true if the frame the hero shows faces left, which may not be the side the hero is facing now
+     */
+    public boolean isFrameLeft() {
+        return frameLeft;
     }
 
     public float getStandardHeight() {
@@ -394,15 +460,26 @@ public abstract class Hero extends Sprite {
     }
 
     /**
-     * moveState setter
+     * moveState setter. The move state of {@code type} is reset, as the hero enters it
      *
-     * @param moveState the new move state to set
+     * @param type the type of the new move state to set
      */
-    void changeMoveState(HeroMoveState moveState) {
-        this.moveState = moveState;
+    void changeMoveState(HeroMoveStateType type) {
+        this.moveState = moveStates.get(type);
+        moveState.reset();
         changeState();
     }
 
+    /**
+     * Makes the hero fall from the given fall step, i.e. go on along the descending branch of a jump parabola
+     *
+     * @param gravity the fall step to start from
+     */
+    void changeMoveStateToFall(int gravity) {
+        changeMoveState(HeroMoveStateType.FALL);
+        fallState.setGravity(gravity);
+    }
+
     /**
      * jumpCount setter
      *
@@ -422,16 +499,24 @@ public abstract class Hero extends Sprite {
     }
 
     /**
-     * facingState setter
-     *
-     * @param facingState the new facing state to set
+     * Makes the hero face left
      */
-    void changeFacingState(HeroFacingState facingState) {
-        this.facingState = facingState;
+    void changeFacingStateToLeft() {
+        this.facingState = leftState;
+    }
+
+    /**
+     * Makes the hero face right
+     */
+    void changeFacingStateToRight() {
+        this.facingState = rightState;
     }
 
     void setStandardHeight(float standardHeight) {
+        if (standardHeight == this.standardHeight)
+            return;
         this.standardHeight = standardHeight;
+        jumpTrajectory = new JumpTrajectory(getJumpMaxElevation(), JUMP_DURATION);
     }
 
     void setStandardWidth(float standardWidth) {
@@ -463,7 +548,14 @@ public abstract class Hero extends Sprite {
      * @return the coefficient for the jump parabola formula
      */
     double getJumpCoefficient() {
-        return getJumpMaxElevation() / MathUtils.sumSquares(JUMP_DURATION);
+        return jumpTrajectory.getCoefficient();
+    }
+
+    /**
+     * @return the tables of the jump parabola of the hero, valid until its standard height changes
+     */
+    public JumpTrajectory getJumpTrajectory() {
+        return jumpTrajectory;
     }
 
     /**
@@ -508,32 +600,4 @@ public abstract class Hero extends Sprite {
     public void die() {
         getMoveState().onDie();
     }
-
-    /* ------------------------------------- SERVICE METHODS ------------------------------------- */
-
-    /**
-     * flip method for textures that have more than one image (ex. runSheet.png)
-     *
-     * @param newFrame is the texture region to flip correctly
-     */
-    public int pixelWidth(TextureRegion newFrame) {
-        //newFrame.flip(true, false);
-        //setRegion(newFrame);
-        var texture = newFrame.getTexture();
-        var textureData = texture.getTextureData();
-        if (!textureData.isPrepared())
-            textureData.prepare();
-        var pixMap = textureData.consumePixmap();
-        int start = 0;
-        for (int i = newFrame.getRegionWidth(); i > 0; i--) {
-            for (int j = newFrame.getRegionHeight(); j > 0; j--)
-                if (pixMap.getPixel(i, j) != 0x00000000) {
-                    start = newFrame.getRegionWidth() - i;
-                    break;
-                }
-            if (start != 0)
-                break;
-        }
-        return start;
-    }
 }
@@ -0,0 +1,140 @@
+package it.unisa.theneverendingrun.models.hero;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * The measures of the frames of a hero, all it needs of its images to move: the size of the frame it shows when a run
+ * starts, and the number of frames, the size of the first frame and the trimmed right side of each frame of each move
+ * state. The measures are taken on the images once and shipped as a resource of the rules module, so that a hero is
+ * simulated without reading an image; the renderer draws the frames the hero says it shows.
+ */
+public final class HeroFrames {
+
+    private final int standWidth;
+    private final int standHeight;
+
+    /**
+     * The size of the first frame of each move state, indexed by {@link HeroMoveStateType#ordinal()}
+     */
+    private final int[] widths = new int[HeroMoveStateType.values().length];
+    private final int[] heights = new int[HeroMoveStateType.values().length];
+
+    /**
+     * The number of blank columns on the right side of each frame of each move state, indexed as the sizes and then
+     * by frame. A column is blank when all the RGBA components of its pixels are 0. A move state with no frames has none
+     */
+    private final int[][] rightInsets = new int[HeroMoveStateType.values().length][];
+
+    /**
+     * Builds the measures from their properties: {@code stand.size} is the width and the height of the frame the hero
+     * shows when a run starts, {@code <state>.size} the ones of the first frame of a move state and
+     * {@code <state>.right} the right insets of each of its frames, in animation order
+     *
+     * @param measures the measures, as lists of integers separated by spaces
+     * @throws IllegalArgumentException if a size is missing or a measure is not a list of integers
+     */
+    HeroFrames(Properties measures) {
+        var stand = readInts(measures, "stand.size", 2);
+        standWidth = stand[0];
+        standHeight = stand[1];
+
+        for (var type : HeroMoveStateType.values()) {
+            var state = type.ordinal();
+            var key = type.name().toLowerCase(Locale.ROOT);
+            if (!measures.containsKey(key + ".right")) {
+                rightInsets[state] = new int[0];
+                continue;
+            }
+
+            var size = readInts(measures, key + ".size", 2);
+            widths[state] = size[0];
+            heights[state] = size[1];
+            rightInsets[state] = readInts(measures, key + ".right", -1);
+        }
+    }
+
+    private static int[] readInts(Properties measures, String key, int count) {
+        var value = measures.getProperty(key);
+        if (value == null)
+            throw new IllegalArgumentException("Missing hero frame measure " + key + ".");
+
+        var fields = value.trim().split("\\s+");
+        if (count >= 0 && fields.length != count)
+            throw new IllegalArgumentException(key + " must have " + count + " values.");
+
+        var ints = new int[fields.length];
+        for (int i = 0; i < fields.length; i++)
+            ints[i] = Integer.parseInt(fields[i]);
+        return ints;
+    }
+
+    /**
+     * Reads the measures of the frames of a hero from a properties resource on the classpath
+     *
+     * @param path the path of the resource
+     * @return the measures of the frames
+     * @throws IllegalArgumentException if the resource is not on the classpath or a measure is malformed
+     * @throws UncheckedIOException     if the resource cannot be read
+     */
+    public static HeroFrames read(String path) {
+        try (var stream = HeroFrames.class.getClassLoader().getResourceAsStream(path)) {
+            if (stream == null)
+                throw new IllegalArgumentException("Hero frames " + path + " are not on the classpath.");
+            var measures = new Properties();
+            measures.load(stream);
+            return new HeroFrames(measures);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read hero frames " + path, e);
+        }
+    }
+
+    /**
+     * @return the width of the frame the hero shows when a run starts
+     */
+    public int getStandWidth() {
+        return standWidth;
+    }
+
+    /**
+     * @return the height of the frame the hero shows when a run starts
+     */
+    public int getStandHeight() {
+        return standHeight;
+    }
+
+    /**
+     * @param type a move state
+     * @return the number of frames of the move state, 0 if it has none
+     */
+    public int getFrameCount(HeroMoveStateType type) {
+        return rightInsets[type.ordinal()].length;
+    }
+
+    /**
+     * @param type a move state with frames
+     * @return the width of the first frame of the move state
+     */
+    public int getWidth(HeroMoveStateType type) {
+        return widths[type.ordinal()];
+    }
+
+    /**
+     * @param type a move state with frames
+     * @return the height of the first frame of the move state
+     */
+    public int getHeight(HeroMoveStateType type) {
+        return heights[type.ordinal()];
+    }
+
+    /**
+     * @param type  a move state with frames
+     * @param frame the index of a frame of the move state
+     * @return the number of blank columns on the right side of the frame
+     */
+    public int getRightInset(HeroMoveStateType type, int frame) {
+        return rightInsets[type.ordinal()][frame];
+    }
+}
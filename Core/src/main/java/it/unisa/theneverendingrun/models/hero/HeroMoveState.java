@@ -4,7 +4,8 @@ package it.unisa.theneverendingrun.models.hero;
 /**
  * The State representing if the hero is jumping, sliding, falling or none of them:
  * the states are called Idle, Jump, Slide, Fall and Dead.
- * Also is delegated to compute the sprite image
+ * Also is delegated to compute the sprite image.
+ * Each hero has one instance of each state, which it changes to by its {@link HeroMoveStateType}
  */
 public abstract class HeroMoveState {
 
@@ -22,6 +23,18 @@ public abstract class HeroMoveState {
         this.hero = hero;
     }
 
+    /**
+     * @return the type of this move state
+     */
+    public abstract HeroMoveStateType getType();
+
+    /**
+     * Resets the counters of this move state, as the hero enters it. The states are allocated once per hero and
+     * reused, so this is where a state starts from scratch
+     */
+    void reset() {
+    }
+
     /**
      * Updates the hero bottom-left coordinates and sprite
      */
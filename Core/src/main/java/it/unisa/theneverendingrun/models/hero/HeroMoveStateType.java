@@ -0,0 +1,33 @@
+package it.unisa.theneverendingrun.models.hero;
+
+/**
+ * An enumeration containing all the move states a hero can be in, each one held by a single {@link HeroMoveState}
+ * the hero allocates when it is created
+ */
+public enum HeroMoveStateType {
+
+    /**
+     * The hero is neither jumping or sliding
+     */
+    IDLE,
+
+    /**
+     * The hero is jumping
+     */
+    JUMP,
+
+    /**
+     * The hero is sliding
+     */
+    SLIDE,
+
+    /**
+     * The hero is falling down
+     */
+    FALL,
+
+    /**
+     * The hero is dead
+     */
+    DEAD
+}
@@ -27,7 +27,7 @@ public class IdleState extends HeroMoveState {
      */
     @Override
     public void onJump() {
-        hero.changeMoveState(new JumpState(hero));
+        hero.changeMoveState(HeroMoveStateType.JUMP);
     }
 
     /**
@@ -35,7 +35,7 @@ public class IdleState extends HeroMoveState {
      */
     @Override
     public void onSlide() {
-        hero.changeMoveState(new SlideState(hero));
+        hero.changeMoveState(HeroMoveStateType.SLIDE);
     }
 
     /**
@@ -43,7 +43,7 @@ public class IdleState extends HeroMoveState {
      */
     @Override
     public void onFall() {
-        hero.changeMoveState(new FallState(hero));
+        hero.changeMoveState(HeroMoveStateType.FALL);
     }
 
     /**
@@ -51,7 +51,12 @@ public class IdleState extends HeroMoveState {
      */
     @Override
     public void onDie() {
-        hero.changeMoveState(new DeadState(hero));
+        hero.changeMoveState(HeroMoveStateType.DEAD);
+    }
+
+    @Override
+    public HeroMoveStateType getType() {
+        return HeroMoveStateType.IDLE;
     }
 
     @Override
@@ -7,14 +7,19 @@ package it.unisa.theneverendingrun.models.hero;
 public class JumpState extends HeroMoveState {
 
     /**
-     * Sets the hero for holding its jump state, setting his jumping variable to true
-     * and his jump counter variable to its initial value
+     * Sets the hero for holding its jump state
      *
      * @param hero the hero which jump state is held
      */
     public JumpState(Hero hero) {
         super(hero);
+    }
 
+    /**
+     * Sets the hero jump counter variable to its initial value, as the jump starts
+     */
+    @Override
+    void reset() {
         hero.setJumpCount(hero.getJumpDuration());
     }
 
@@ -36,14 +41,14 @@ public class JumpState extends HeroMoveState {
 
         if (jumpCount >= -hero.getJumpDuration()) {
             int up = jumpCount < 0 ? -1 : 1;
-            var newY = (float) (hero.getY() + (jumpCount * jumpCount) * hero.getJumpCoefficient() * up);
+            var newY = (float) (hero.getY() + hero.getJumpTrajectory().getStepOffset(Math.abs(jumpCount)) * up);
             hero.setY(newY);
             hero.setJumpCount(jumpCount - 1);
         } else {
             if (hero.isAboveGround())
-                hero.changeMoveState(new FallState(hero, Math.abs(jumpCount)));
+                hero.changeMoveStateToFall(Math.abs(jumpCount));
             else
-                hero.changeMoveState(new IdleState(hero));
+                hero.changeMoveState(HeroMoveStateType.IDLE);
         }
     }
 
@@ -52,7 +57,7 @@ public class JumpState extends HeroMoveState {
      */
     @Override
     public void onIdle() {
-        hero.changeMoveState(new IdleState(hero));
+        hero.changeMoveState(HeroMoveStateType.IDLE);
     }
 
     /**
@@ -76,7 +81,7 @@ public class JumpState extends HeroMoveState {
      */
     @Override
     public void onFall() {
-        hero.changeMoveState(new FallState(hero));
+        hero.changeMoveState(HeroMoveStateType.FALL);
     }
 
     /**
@@ -84,7 +89,12 @@ public class JumpState extends HeroMoveState {
      */
     @Override
     public void onDie() {
-        hero.changeMoveState(new DeadState(hero));
+        hero.changeMoveState(HeroMoveStateType.DEAD);
+    }
+
+    @Override
+    public HeroMoveStateType getType() {
+        return HeroMoveStateType.JUMP;
     }
 
     @Override
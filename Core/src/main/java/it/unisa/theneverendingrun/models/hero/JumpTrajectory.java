@@ -0,0 +1,68 @@
+package it.unisa.theneverendingrun.models.hero;
+
+import it.unisa.theneverendingrun.utilities.MathUtils;
+
+/**
+ * The table of the jump parabola of a hero, computed once for its jump height.
+ * A jump step {@code n} moves the hero up (down) by {@code n * n} times the jump coefficient, from the jump duration
+ * down to 0 and then up to the jump duration again, and a fall goes on along the same steps. The table holds the
+ * offset of each step.
+ */
+public final class JumpTrajectory {
+
+    /**
+     * The number of fall steps whose offset is stored, after which the hero has long reached the ground
+     */
+    private static final int TABLE_STEPS_PER_DURATION = 4;
+
+    private final double maxElevation;
+    private final double coefficient;
+
+    /**
+     * The offset of each step, indexed by step
+     */
+    private final double[] stepOffsets;
+
+    /**
+     * @param maxElevation the height of the top of the jump above the take-off
+     * @param duration     the number of steps from the take-off to the top of the jump
+     * @throws IllegalArgumentException if {@code duration} is less than 1 or {@code maxElevation} is negative
+     */
+    public JumpTrajectory(double maxElevation, int duration) {
+        if (duration < 1)
+            throw new IllegalArgumentException("Duration must be greater or equal than 1.");
+        if (maxElevation < 0)
+            throw new IllegalArgumentException("MaxElevation must be greater or equal than 0.");
+
+        this.maxElevation = maxElevation;
+        coefficient = maxElevation / MathUtils.sumSquares(duration);
+
+        stepOffsets = new double[TABLE_STEPS_PER_DURATION * duration + 1];
+        for (int step = 0; step < stepOffsets.length; step++)
+            stepOffsets[step] = (step * step) * coefficient;
+    }
+
+    /**
+     * @param step a jump or fall step, at least 0
+     * @return how much the hero moves vertically at {@code step}
+     */
+    public double getStepOffset(int step) {
+        if (step < stepOffsets.length)
+            return stepOffsets[step];
+        return (step * step) * coefficient;
+    }
+
+    /**
+     * @return the height of the top of the jump above the take-off
+     */
+    public double getMaxElevation() {
+        return maxElevation;
+    }
+
+    /**
+     * @return the coefficient of the jump parabola, i.e. the offset of step 1
+     */
+    public double getCoefficient() {
+        return coefficient;
+    }
+}
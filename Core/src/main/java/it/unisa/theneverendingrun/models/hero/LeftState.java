@@ -27,7 +27,7 @@ public class LeftState extends HeroFacingState {
      */
     @Override
     public void onRight() {
-        hero.changeFacingState(new RightState(hero));
+        hero.changeFacingStateToRight();
     }
 
     @Override
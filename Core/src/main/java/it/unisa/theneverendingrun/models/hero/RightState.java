@@ -20,7 +20,7 @@ public class RightState extends HeroFacingState {
      */
     @Override
     public void onLeft() {
-        hero.changeFacingState(new LeftState(hero));
+        hero.changeFacingStateToLeft();
     }
 
     /**
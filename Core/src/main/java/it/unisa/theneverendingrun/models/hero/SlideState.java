@@ -7,14 +7,19 @@ package it.unisa.theneverendingrun.models.hero;
 public class SlideState extends HeroMoveState {
 
     /**
-     * Sets the hero for holding its slide state, setting its slide variable to true
-     * and his slide counter variable to its initial value
+     * Sets the hero for holding its slide state
      *
      * @param hero the hero which slide state is held
      */
     public SlideState(Hero hero) {
         super(hero);
+    }
 
+    /**
+     * Sets the hero slide counter variable to its initial value, as the slide starts
+     */
+    @Override
+    void reset() {
         hero.setSlideCount(0);
     }
 
@@ -37,7 +42,7 @@ public class SlideState extends HeroMoveState {
         if (slideCount < hero.getSlideDuration()) {
             hero.setSlideCount(slideCount + 1);
         } else {
-            hero.changeMoveState(new IdleState(hero));
+            hero.changeMoveState(HeroMoveStateType.IDLE);
         }
     }
 
@@ -46,7 +51,7 @@ public class SlideState extends HeroMoveState {
      */
     @Override
     public void onIdle() {
-        hero.changeMoveState(new IdleState(hero));
+        hero.changeMoveState(HeroMoveStateType.IDLE);
     }
 
     /**
@@ -54,7 +59,7 @@ public class SlideState extends HeroMoveState {
      */
     @Override
     public void onJump() {
-        hero.changeMoveState(new JumpState(hero));
+        hero.changeMoveState(HeroMoveStateType.JUMP);
     }
 
     /**
@@ -69,7 +74,7 @@ public class SlideState extends HeroMoveState {
      */
     @Override
     public void onFall() {
-        hero.changeMoveState(new FallState(hero));
+        hero.changeMoveState(HeroMoveStateType.FALL);
     }
 
     /**
@@ -77,7 +82,12 @@ public class SlideState extends HeroMoveState {
      */
     @Override
     public void onDie() {
-        hero.changeMoveState(new DeadState(hero));
+        hero.changeMoveState(HeroMoveStateType.DEAD);
+    }
+
+    @Override
+    public HeroMoveStateType getType() {
+        return HeroMoveStateType.SLIDE;
     }
 
     @Override
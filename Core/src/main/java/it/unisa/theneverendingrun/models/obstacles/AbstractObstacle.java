@@ -0,0 +1,87 @@
+package it.unisa.theneverendingrun.models.obstacles;
+
+import it.unisa.theneverendingrun.models.Spawnable;
+import it.unisa.theneverendingrun.models.hero.Hero;
+import it.unisa.theneverendingrun.utilities.AabbUtils;
+
+public abstract class AbstractObstacle extends Spawnable {
+
+    /**
+     * True when the hero was standing on the obstacle in the previous move step
+     */
+    private boolean heroOnTop;
+
+    AbstractObstacle() {
+    }
+
+    /**
+     * Forgets the contact with the hero. Subclasses also generate new dimensions
+     */
+    @Override
+    public void reset() {
+        heroOnTop = false;
+    }
+
+    /**
+     * @return true if the hero was standing on the obstacle in the previous move step
+     */
+    public boolean isHeroOnTop() {
+        return heroOnTop;
+    }
+
+    @Override
+    public void beginCollision(Hero hero) {
+        var heroX = hero.getX();
+        var heroY = hero.getY();
+        var heroWidth = hero.getWidth();
+        var heroHeight = hero.getHeight();
+        var obstacleX = this.getX();
+        var obstacleY = this.getY();
+        var obstacleWidth = this.getWidth();
+        var obstacleHeight = this.getHeight();
+
+        var collision = AabbUtils.contactSide(hero.getPreviousX(), hero.getPreviousY(), heroX, heroY, heroWidth, heroHeight,
+                getPreviousX(), getPreviousY(), obstacleX, obstacleY, obstacleWidth, obstacleHeight);
+        var intersectionWidth = AabbUtils.overlap(heroX, heroWidth, obstacleX, obstacleWidth);
+        var intersectionHeight = AabbUtils.overlap(heroY, heroHeight, obstacleY, obstacleHeight);
+
+        if (collision == AabbUtils.RIGHT) {
+            hero.setX(hero.getX() + intersectionWidth);
+        } else if (collision == AabbUtils.LEFT) {
+            hero.setX(hero.getX() - intersectionWidth);
+        } else if (collision == AabbUtils.BOTTOM) {
+            heroOnTop = true;
+            if (hero.isJumping() && hero.getJumpCompletion() >= 0.5 || hero.isFalling())
+                hero.getMoveState().onIdle();
+            hero.setY(hero.getY() + intersectionHeight);
+        } else if (collision == AabbUtils.TOP) {
+
+            if (hero.getX() < this.getX()) // if the hero is left with respect to the spawnable
+                hero.setX(hero.getX() - intersectionWidth);
+
+            else if (hero.getX() > this.getX() + this.getWidth()) // if the hero is right with respect to the spawnable
+                hero.setX(hero.getX() + intersectionWidth);
+
+                // if the hero is under the spawnable and was sliding, but there is not enough space to stand
+            else if (this.getY() - hero.getGroundY() < hero.getStandardHeight()) {
+                hero.getMoveState().onSlide();
+            } else {
+                hero.setY(hero.getY() - intersectionHeight);
+                hero.getMoveState().onFall();
+            }
+        }
+    }
+
+    @Override
+    public void endCollision(Hero hero) {
+        if (heroOnTop && !hero.isJumping()) {
+            hero.getMoveState().onFall();
+            heroOnTop = false;
+        }
+    }
+
+    @Override
+    public void setSize(float width, float height) {
+        super.setSize(width, height);
+    }
+}
@@ -0,0 +1,51 @@
+package it.unisa.theneverendingrun.models.obstacles;
+
+import it.unisa.theneverendingrun.models.SpawnableTypes;
+import it.unisa.theneverendingrun.models.hero.Hero;
+import it.unisa.theneverendingrun.utilities.MathUtils;
+
+import java.util.Random;
+
+public class JumpableObstacle extends AbstractObstacle {
+
+    private final float maxJumpHeight;
+
+    /**
+     * The hero whose width is the min width of the obstacle
+     */
+    private final Hero hero;
+
+    /**
+     * JumpableObstacle constructor. Set the max jumpable height and the hero the width is measured on.
+     *
+     * @param maxJumpHeight max jumpable height
+     * @param hero          the hero whose width is the min width of the obstacle
+     */
+    public JumpableObstacle(float maxJumpHeight, Hero hero) {
+        this.maxJumpHeight = maxJumpHeight;
+        this.hero = hero;
+    }
+
+    @Override
+    public SpawnableTypes getType() {
+        return SpawnableTypes.Jumpable;
+    }
+
+    /**
+     * Generate randomly the dimension of the jumpable obstacles given min max gap
+     */
+    @Override
+    public void generateDimensions(Random random) {
+        var minGapHeight = maxJumpHeight * 0.4;
+        var maxGapHeight = maxJumpHeight - 2;
+
+        var maxWidth = hero.getWidth();
+        var minGapWidth = maxWidth;
+        var maxGapWidth = maxWidth * 3;
+
+        var randomHeight = (float) MathUtils.nextDouble(random, minGapHeight, maxGapHeight);
+        var randomWidth = (float) MathUtils.nextDouble(random, minGapWidth, maxGapWidth);
+        setSize(randomWidth, randomHeight);
+    }
+
+}
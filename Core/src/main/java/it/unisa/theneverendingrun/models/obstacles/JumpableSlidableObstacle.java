@@ -0,0 +1,39 @@
+package it.unisa.theneverendingrun.models.obstacles;
+
+import it.unisa.theneverendingrun.models.SpawnableTypes;
+import it.unisa.theneverendingrun.utilities.MathUtils;
+
+import java.util.Random;
+
+public class JumpableSlidableObstacle extends AbstractObstacle {
+
+    private final float maxJumpHeight;
+    private final float maxSlideDistance;
+
+    public JumpableSlidableObstacle(float maxJumpHeight, float maxSlideDistance) {
+        this.maxJumpHeight = maxJumpHeight;
+        this.maxSlideDistance = maxSlideDistance;
+    }
+
+    @Override
+    public SpawnableTypes getType() {
+        return SpawnableTypes.JumpableSlidable;
+    }
+
+    @Override
+    public void generateDimensions(Random random) {
+
+        var minGapHeight = maxJumpHeight * 0.4;
+        var maxGapHeight = maxJumpHeight * 0.6;
+
+        var minGapWidth = maxSlideDistance * 0.5;
+        var maxGapWidth = maxSlideDistance - 2;
+
+        var randomHeight = (float) MathUtils.nextDouble(random, minGapHeight, maxGapHeight);
+        var randomWidth = (float) MathUtils.nextDouble(random, minGapWidth, maxGapWidth);
+
+        setSize(randomWidth, randomHeight);
+    }
+
+
+}
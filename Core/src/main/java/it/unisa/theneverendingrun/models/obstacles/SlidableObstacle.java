@@ -0,0 +1,33 @@
+package it.unisa.theneverendingrun.models.obstacles;
+
+import it.unisa.theneverendingrun.models.SpawnableTypes;
+import it.unisa.theneverendingrun.utilities.MathUtils;
+
+import java.util.Random;
+
+public class SlidableObstacle extends AbstractObstacle {
+
+    private final float maxSlideDistance;
+
+    /**
+     * The height of the obstacle, which hangs from the top of the world
+     */
+    private final float height;
+
+    public SlidableObstacle(float maxSlideDistance, float height) {
+        this.maxSlideDistance = maxSlideDistance;
+        this.height = height;
+    }
+
+    @Override
+    public SpawnableTypes getType() {
+        return SpawnableTypes.Slidable;
+    }
+
+    @Override
+    public void generateDimensions(Random random) {
+        var dimension = (float) MathUtils.nextDouble(random, maxSlideDistance * 0.5, maxSlideDistance - 1);
+        setSize(dimension, height);
+    }
+
+}
@@ -0,0 +1,72 @@
+package it.unisa.theneverendingrun.obstaclesManager;
+
+import it.unisa.theneverendingrun.models.SpawnableTypes;
+
+import java.util.Random;
+
+/**
+ * The rules deciding which spawnable enters the game next, so that the hero can always avoid it.
+ * The rules only look at the type and the right edge of the last spawnable, so they do not depend on the sprites.
+ */
+public class SpawnRules {
+
+    private static final SpawnableTypes[] TYPES = SpawnableTypes.values();
+
+    /**
+     * Randomly decides the type of the spawnable to add, following the conditions.
+     * For example, if the last obstacle was a slidable one, we cannot put another right after it,
+     * otherwise the player might not be able to pass.
+     * Please, note that this method randomly decides to add or not an obstacle, even if it can added.
+     *
+     * @param worldWidth       the width of the world, where the spawnables enter it
+     * @param lastType         the type of the last spawnable added, null if none is in the game
+     * @param lastRight        the right edge of the last spawnable added
+     * @param minimumDistance  the minimum distance between two spawnables for the hero to pass
+     * @param spawnProbability the inverse of the probability of adding a spawnable when any can be added
+     * @param random           the source of the random choices
+     * @return The type of obstacle that can be added, null if none.
+     */
+    public static SpawnableTypes nextType(float worldWidth, SpawnableTypes lastType, float lastRight,
+                                          float minimumDistance, int spawnProbability, Random random) {
+        //If there isn't any obstacle on the screen, add one at random
+        if (lastType == null || lastRight <= 0)
+            return TYPES[random.nextInt(TYPES.length)];
+
+        // Calculate the distance from the last obstacle. This distance is defined as the distance from the right
+        // side of an obstacle to the left side of the view.
+        int distance = (int) (worldWidth - lastRight);
+
+        // If distance is less than zero, the obstacle is still not completely visible, so wait
+        if (distance < 0)
+            return null;
+
+        // If distance is zero, then we could add a jumpable or slidable obstacle, but only if the previous was jumpable
+        if (distance == 0) {
+            if (lastType == SpawnableTypes.Jumpable) {
+                //generating a value between -1 and 1, deciding what to add according to it
+                int r = random.nextInt(3) - 1;
+                if (r == 0)
+                    return null;
+                if (r > 0)
+                    return SpawnableTypes.Jumpable;
+                return SpawnableTypes.Slidable;
+            }
+            if (lastType == SpawnableTypes.JumpableSlidable || lastType == SpawnableTypes.Slidable)
+                return null;
+            if (lastType == SpawnableTypes.Wolf || lastType == SpawnableTypes.Golem) {
+                //fixme, is this always jumpable?
+                if (random.nextBoolean())
+                    return SpawnableTypes.Jumpable;
+            }
+        }
+
+        //If the space is not sufficient for the hero to pass, wait.
+        if (distance < minimumDistance)
+            return null;
+
+        // If the obstacle is distant enough, it is possible to add every type of obstacle
+        if (random.nextInt() % spawnProbability == 0)
+            return TYPES[random.nextInt(TYPES.length)];
+        return null;
+    }
+}
@@ -0,0 +1,266 @@
+package it.unisa.theneverendingrun.obstaclesManager;
+
+import it.unisa.theneverendingrun.models.Spawnable;
+import it.unisa.theneverendingrun.models.SpawnableTypes;
+import it.unisa.theneverendingrun.models.World;
+import it.unisa.theneverendingrun.utilities.MathUtils;
+import it.unisa.theneverendingrun.models.hero.Hero;
+import it.unisa.theneverendingrun.services.ForestFactory;
+import it.unisa.theneverendingrun.utilities.RingBuffer;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+public class SpawnableManager {
+
+    /**
+     * The spawn probability when a run starts
+     */
+    private static final int INITIAL_SPAWN_PROBABILITY = 50;
+
+    /**
+     * Values which are needed to set the correct position of the new obstacle.
+     */
+    private int spawnProbability = INITIAL_SPAWN_PROBABILITY;
+    private int minimumDistanceMultiplier = 3;
+    private float offset;
+
+    /**
+     * Reference to the forestFactory.
+     */
+    private ForestFactory forestFactory;
+
+    /**
+     * The pools the spawnables of each type are obtained from and freed to
+     */
+    private final Map<SpawnableTypes, SpawnablePool> pools = new EnumMap<>(SpawnableTypes.class);
+
+    /**
+     * The width of the widest obstacle generated in the current run
+     */
+    private float maxObstacleWidth;
+
+    /**
+     * Reference to the last obstacle generated.
+     */
+    private Spawnable lastObstacle;
+
+    /**
+     * The type of the last obstacle added to the game
+     */
+    private SpawnableTypes lastObstacleType;
+
+    /**
+     * Reference to the hero which the measures will be based on.
+     */
+    private Hero hero;
+
+    /**
+     * The world the obstacles enter from its right edge
+     */
+    private final World world;
+
+    /**
+     * The random numbers of the game, deciding the type, position and dimensions of the obstacles
+     */
+    private final Random random;
+
+    /**
+     * Constructor of the obstaclesManager. The obstacles are created by {@code forestFactory} and measured on its hero
+     *
+     * @param forestFactory the factory of the game, which remains owned by the caller
+     */
+    public SpawnableManager(ForestFactory forestFactory) {
+        this(forestFactory, new Random());
+    }
+
+    /**
+     * Constructor of the obstaclesManager. The obstacles are created by {@code forestFactory} and measured on its hero,
+     * and the same {@code random} numbers give the same obstacles
+     *
+     * @param forestFactory the factory of the game, which remains owned by the caller
+     * @param random        the random numbers of the game
+     */
+    public SpawnableManager(ForestFactory forestFactory, Random random) {
+        this.forestFactory = forestFactory;
+        this.random = random;
+        hero = forestFactory.createHero();
+        world = forestFactory.getWorld();
+        offset = hero.getGroundY();
+
+        pools.put(SpawnableTypes.Jumpable, new SpawnablePool(forestFactory::createJumpableObstacle));
+        pools.put(SpawnableTypes.Slidable, new SpawnablePool(forestFactory::createSlidableObstacle));
+        pools.put(SpawnableTypes.JumpableSlidable, new SpawnablePool(forestFactory::createJumpableSlidableObstacle));
+        pools.put(SpawnableTypes.Wolf, new SpawnablePool(forestFactory::createWolf));
+        pools.put(SpawnableTypes.Golem, new SpawnablePool(forestFactory::createGolem));
+    }
+
+    /**
+     * Frees all the obstacles to their pools, bringing the manager back to the state it has when a run starts
+     *
+     * @param obstacles the buffer which contains all the obstacles, emptied by this method
+     */
+    public void reset(RingBuffer<Spawnable> obstacles) {
+        while (!obstacles.isEmpty())
+            release(obstacles.removeFirst());
+
+        lastObstacle = null;
+        lastObstacleType = null;
+        spawnProbability = INITIAL_SPAWN_PROBABILITY;
+        maxObstacleWidth = 0;
+    }
+
+    /**
+     * This method will randomly create and return a new obstacle. The obstacles are generated by following some
+     * criteria, ensuring that the character can avoid it.
+     * In addition, to the obstacle will be assigned the correct position, based on the reference measures given
+     * during the creation of the obstaclesManager.
+     *
+     * @return A new Spawnable, with the correct position, null if the obstacle cannot be generated
+     */
+    public Spawnable generateNewObstacle() {
+        SpawnableTypes newObstacleType = getAppropriateSpawnableType();
+        if (newObstacleType == null) {
+            return null;
+        }
+        Spawnable newObstacle = pools.get(newObstacleType).obtain();
+        newObstacle.generateDimensions(random);
+        setPosition(newObstacle, newObstacleType);
+        lastObstacle = newObstacle;
+        lastObstacleType = newObstacleType;
+        maxObstacleWidth = Math.max(maxObstacleWidth, newObstacle.getWidth());
+        return newObstacle;
+    }
+
+    /**
+     * Frees an obstacle that left the game to the pool of its type
+     *
+     * @param obstacle the obstacle to free
+     */
+    private void release(Spawnable obstacle) {
+        if (obstacle == lastObstacle) {
+            lastObstacle = null;
+            lastObstacleType = null;
+        }
+        pools.get(obstacle.getType()).free(obstacle);
+    }
+
+    /**
+     * @return the width of the widest obstacle generated in the current run
+     */
+    public float getMaxObstacleWidth() {
+        return maxObstacleWidth;
+    }
+
+    /**
+     * @param type a spawnable type
+     * @return the pool the spawnables of {@code type} are obtained from
+     */
+    public SpawnablePool getPool(SpawnableTypes type) {
+        return pools.get(type);
+    }
+
+    /**
+     * Decides the type of obstacle that can be added to the path, by the {@link SpawnRules}.
+     *
+     * @return The type of obstacle that can be added, null if none.
+     */
+    private SpawnableTypes getAppropriateSpawnableType() {
+        if (lastObstacle == null)
+            return SpawnRules.nextType(world.getWidth(), null, 0, 0, spawnProbability, random);
+
+        return SpawnRules.nextType(world.getWidth(), lastObstacleType, lastObstacle.getX() + lastObstacle.getWidth(),
+                hero.getStandardWidth() * minimumDistanceMultiplier, spawnProbability, random);
+    }
+
+    /**
+     * This method will fix the position of the given obstacle. This will take into account the dimensions of the
+     * obstacles, allowing to vary the position, keeping it avoidable by the user. If the position was already fixed,
+     * it will change randomly, but always in a range that allows to avoid it.
+     * The position on the x axis is always at the rightmost edge, while on the y-axis depends on the dimension of the
+     * obstacle and on the parameters passed to the constructor.
+     *
+     * @param obstacle the obstacle which needs the position fixed
+     * @param newObstacleType
+     */
+    private void setPosition(Spawnable obstacle, SpawnableTypes newObstacleType) {
+        int yPosition = 0;
+
+        if (newObstacleType == SpawnableTypes.Jumpable) {
+            yPosition = 0;
+        }
+
+        if (newObstacleType == SpawnableTypes.Wolf || newObstacleType == SpawnableTypes.Golem) {
+            yPosition = 0;
+        }
+
+        if (newObstacleType == SpawnableTypes.Slidable) {
+            yPosition = MathUtils.nextInt(random,
+                    (int) hero.getStandardHeight() / 2,
+                    (int) hero.getStandardHeight() - 1
+            );
+            if (lastObstacleType == SpawnableTypes.Jumpable && lastObstacle.getX() + lastObstacle.getWidth() >= world.getWidth() - 1) {
+                yPosition += lastObstacle.getHeight() + lastObstacle.getY() - offset;
+                }
+            }
+
+
+        if (newObstacleType == SpawnableTypes.JumpableSlidable) {
+            yPosition = MathUtils.nextInt(random,
+                    (int) hero.getStandardHeight() / 2,
+                    (int) hero.getStandardHeight() / 2 + (int) hero.getJumpTrajectory().getMaxElevation()
+                            - (int) obstacle.getHeight());
+        }
+        // Accounting for the lower part of the background
+        yPosition += offset;
+        obstacle.setPosition(world.getWidth(), yPosition);
+        // the obstacle enters the game here, so it has not moved from anywhere
+        obstacle.preUpdate();
+    }
+
+    /**
+     * This method will remove from the game the obstacles which are not visible anymore, freeing them to their pools.
+     * The obstacles leave the game in the order they entered it, so only the front of the buffer is checked:
+     * an obstacle that is no longer visible behind a wider one is removed right after it.
+     *
+     * @param obstacles the buffer which contains all the obstacles, in the order they entered the game
+     */
+    public void clearOldObstacles(RingBuffer<Spawnable> obstacles) {
+        while (!obstacles.isEmpty() && isGone(obstacles.first()))
+            release(obstacles.removeFirst());
+    }
+
+    private boolean isGone(Spawnable obstacle) {
+        return obstacle.getX() + obstacle.getWidth() + hero.getWidth() < 0;
+    }
+
+    /**
+     * Set the spawn probability of an obstacle, when anyone can be generated. This value is inversely proportional to
+     * the probability of spawning. This means that if it is equal to 1, every time the minimum distance is
+     * exceeded, than an obstacle is generated.
+     *
+     * @param spawnProbability the spawn probability of an obstacle when any can be generated
+     */
+    public void setSpawnProbability(int spawnProbability) {
+        if (spawnProbability < 1)
+            throw new IllegalArgumentException("SpawnProbability must be greater or equal than 1.");
+
+        this.spawnProbability = spawnProbability;
+    }
+
+    /**
+     * Set the minimum distance that must occur between two obstacles. This number is a multiplier of the hero's width.
+     * This means that a multiplier of one, allows the hero to pass between two obstacles leaving zero pixel on its left
+     * or on its right. Obviously, the multiplier cannot be less than one, since the distance must be greater than the
+     * hero width.
+     *
+     * @param minimumDistanceMultiplier the multiplier
+     * @throws IllegalArgumentException if the argument is less than 1
+     */
+    public void setMinimumDistanceMultiplier(int minimumDistanceMultiplier) {
+        if (minimumDistanceMultiplier < 1)
+            throw new IllegalArgumentException("MinimumDistanceMultiplier must be greater or equal than 1.");
+        this.minimumDistanceMultiplier = minimumDistanceMultiplier;
+    }
+}
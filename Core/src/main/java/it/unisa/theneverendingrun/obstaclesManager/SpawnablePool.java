@@ -0,0 +1,111 @@
+package it.unisa.theneverendingrun.obstaclesManager;
+
+import it.unisa.theneverendingrun.models.Spawnable;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * A pool of spawnables of the same type. The spawnables leaving the screen are freed to the pool, which
+ * re-initialises them through {@link Spawnable#reset()}, and handed out again instead of creating new ones.
+ * The last spawnable freed is the first handed out again.
+ */
+public class SpawnablePool {
+
+    /**
+     * Creates a spawnable when the pool is empty
+     */
+    private final Supplier<? extends Spawnable> factory;
+
+    /**
+     * The spawnables freed and not obtained again yet
+     */
+    private final ArrayDeque<Spawnable> free = new ArrayDeque<>();
+
+    /**
+     * The greatest number of free spawnables the pool held
+     */
+    private int peak;
+
+    /**
+     * Statistics: the number of obtained spawnables that were taken from the pool or had to be created
+     */
+    private int hits;
+    private int misses;
+
+    SpawnablePool(Supplier<? extends Spawnable> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * @return a free spawnable, or a new one if the pool is empty
+     */
+    public Spawnable obtain() {
+        if (free.isEmpty()) {
+            misses++;
+            return factory.get();
+        }
+        hits++;
+        return free.pop();
+    }
+
+    /**
+     * Resets a spawnable and puts it in the pool, to be obtained again
+     *
+     * @param spawnable the spawnable to free
+     */
+    public void free(Spawnable spawnable) {
+        free.push(spawnable);
+        peak = Math.max(peak, free.size());
+        spawnable.reset();
+    }
+
+    /**
+     * @return the number of free spawnables in the pool
+     */
+    public int getFree() {
+        return free.size();
+    }
+
+    /**
+     * @return the greatest number of free spawnables the pool held
+     */
+    public int getPeak() {
+        return peak;
+    }
+
+    /**
+     * @return the number of obtained spawnables that were taken from the pool
+     */
+    public int getHits() {
+        return hits;
+    }
+
+    /**
+     * @return the number of obtained spawnables that had to be created
+     */
+    public int getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return the fraction of obtained spawnables that were taken from the pool, 0 if none was obtained
+     */
+    public float getHitRate() {
+        var obtained = hits + misses;
+        return obtained == 0 ? 0 : (float) hits / obtained;
+    }
+
+    /**
+     * Sets the hits and misses counters back to 0
+     */
+    public void resetStatistics() {
+        hits = 0;
+        misses = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "SpawnablePool{hits=" + hits + ", misses=" + misses + ", free=" + getFree() + ", peak=" + peak + "}";
+    }
+}
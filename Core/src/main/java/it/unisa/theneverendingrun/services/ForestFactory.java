@@ -0,0 +1,112 @@
+package it.unisa.theneverendingrun.services;
+
+import it.unisa.theneverendingrun.models.Spawnable;
+import it.unisa.theneverendingrun.models.SpawnableTypes;
+import it.unisa.theneverendingrun.models.World;
+import it.unisa.theneverendingrun.models.background.AbstractScrollingBackground;
+import it.unisa.theneverendingrun.models.background.ForestScrollingBackground;
+import it.unisa.theneverendingrun.models.enemy.Enemy;
+import it.unisa.theneverendingrun.models.enemy.EnemyAnimator;
+import it.unisa.theneverendingrun.models.enemy.EnemyEventBus;
+import it.unisa.theneverendingrun.models.enemy.EnemyEventType;
+import it.unisa.theneverendingrun.models.hero.ForestHero;
+import it.unisa.theneverendingrun.models.hero.Hero;
+import it.unisa.theneverendingrun.models.hero.HeroFrames;
+import it.unisa.theneverendingrun.models.obstacles.JumpableObstacle;
+import it.unisa.theneverendingrun.models.obstacles.JumpableSlidableObstacle;
+import it.unisa.theneverendingrun.models.obstacles.SlidableObstacle;
+
+public class ForestFactory implements GameFactory {
+
+    private static final float SCROLLING_SPEED = 0.002F;
+    private static final float SCROLLING_WIDTH = 2.0F;
+
+    /**
+     * The number of frames of each enemy animation
+     */
+    public static final int ENEMY_ANIMATION_FRAMES = 13;
+
+    /**
+     * The measures of the frames of the hero
+     */
+    private final HeroFrames heroFrames;
+
+    /**
+     * The bus of the events of all the enemies created by this factory, which tells their animators about their
+     * fight state changes
+     */
+    private final EnemyEventBus enemyEvents = new EnemyEventBus();
+
+    private Hero hero;
+
+    /**
+     * The world the created sprites are sized and placed in
+     */
+    private final World world;
+
+    /**
+     * @param world      the world the created sprites are sized and placed in
+     * @param heroFrames the measures of the frames of the hero, see {@link ForestHero#readFrames()}
+     */
+    public ForestFactory(World world, HeroFrames heroFrames) {
+        this.world = world;
+        this.heroFrames = heroFrames;
+        hero = setHero();
+        enemyEvents.subscribe(EnemyEventType.ENEMY_FIGHT_STATE_CHANGED,
+                (eventType, enemy) -> enemy.getAnimator().update(eventType, enemy));
+    }
+
+    @Override
+    public AbstractScrollingBackground createBackground() {
+        return new ForestScrollingBackground(world.getWidth(), world.getHeight(), SCROLLING_SPEED, SCROLLING_WIDTH);
+    }
+
+    private Hero setHero() {
+        float baseX = 0.3f * world.getWidth();
+        float baseY = 0.0625f * world.getHeight();
+        hero = new ForestHero(heroFrames, baseX, baseY);
+        hero.saveStartFrame();
+        return hero;
+    }
+
+    @Override
+    public Hero createHero() {
+        return hero;
+    }
+
+    /**
+     * @return the world the created sprites are sized and placed in
+     */
+    public World getWorld() {
+        return world;
+    }
+
+    /**
+     * @return the bus of the events of the enemies created by this factory, dispatched by the caller
+     */
+    public EnemyEventBus getEnemyEvents() {
+        return enemyEvents;
+    }
+
+    public Enemy createWolf() {
+        return new Enemy(new EnemyAnimator(SpawnableTypes.Wolf, ENEMY_ANIMATION_FRAMES),
+                enemyEvents, hero, 1.5f, 0.8f);
+    }
+
+    public JumpableObstacle createJumpableObstacle() {
+        return new JumpableObstacle((float) hero.getJumpMaxElevation(), hero);
+    }
+
+    public SlidableObstacle createSlidableObstacle() {
+        return new SlidableObstacle((float) hero.getMaxSlideRange() * 3, world.getHeight()); //fixme must be function of speed
+    }
+
+    public Spawnable createJumpableSlidableObstacle() {
+        return new JumpableSlidableObstacle((float) hero.getJumpMaxElevation(), (float) hero.getMaxSlideRange() * 3); //fixme idem
+    }
+
+    public Enemy createGolem() {
+        return new Enemy(new EnemyAnimator(SpawnableTypes.Golem, ENEMY_ANIMATION_FRAMES),
+                enemyEvents, hero, 1.5f, 1.5f);
+    }
+}
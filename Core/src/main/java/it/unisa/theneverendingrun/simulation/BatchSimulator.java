@@ -0,0 +1,138 @@
+package it.unisa.theneverendingrun.simulation;
+
+import it.unisa.theneverendingrun.DeathCause;
+import it.unisa.theneverendingrun.Simulation;
+import it.unisa.theneverendingrun.models.World;
+import it.unisa.theneverendingrun.models.hero.ForestHero;
+import it.unisa.theneverendingrun.models.hero.HeroFrames;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Plays many independent games at once, to tune the difficulty without playing by hand.
+ * Each thread of a fixed pool owns a simulation, restarted for each game it takes, and collects its own statistics,
+ * so the threads share nothing but the counter handing out the games. The seed of each game depends only on the
+ * seed of the batch and on the game index, so a batch gives the same statistics whatever the number of threads.
+ */
+public class BatchSimulator {
+
+    private static final Logger LOGGER = Logger.getLogger(BatchSimulator.class.getName());
+
+    /**
+     * The duration of a tick, as in the game at its default tick rate
+     */
+    private static final float TICK = 1f / 60;
+
+    /**
+     * The world simulated by {@link #main(String[])}, as large as the default window on a 1920x1080 screen
+     */
+    private static final World DEFAULT_WORLD = new World(1536, 777);
+
+    /**
+     * The simulation of each thread
+     */
+    private final Simulation[] simulations;
+
+    /**
+     * Creates the simulations of all the threads
+     *
+     * @param world      the world to simulate
+     * @param heroFrames the measures of the frames of the hero, shared by all the simulations as they are immutable
+     * @param threads    the number of games to play at once
+     * @throws IllegalArgumentException if {@code threads} is less than 1
+     */
+    public BatchSimulator(World world, HeroFrames heroFrames, int threads) {
+        if (threads < 1)
+            throw new IllegalArgumentException("Threads must be greater or equal than 1.");
+
+        simulations = new Simulation[threads];
+        for (int i = 0; i < threads; i++)
+            simulations[i] = new Simulation(world, heroFrames, new Random());
+    }
+
+    /**
+     * Plays a batch of games
+     *
+     * @param games    the number of games to play
+     * @param seed     the seed of the batch, from which the seed of each game is derived
+     * @param maxTicks the number of ticks after which a game still running is stopped
+     * @param policy   the policy playing all the games
+     * @return the statistics of all the games
+     * @throws InterruptedException if interrupted while waiting for the games to end
+     */
+    public RunStatistics run(int games, long seed, int maxTicks, InputPolicy policy) throws InterruptedException {
+        var nextGame = new AtomicInteger();
+        var workers = new ArrayList<Callable<RunStatistics>>(simulations.length);
+        for (var simulation : simulations)
+            workers.add(() -> play(simulation, nextGame, games, seed, maxTicks, policy));
+
+        var executor = Executors.newFixedThreadPool(simulations.length);
+        try {
+            var statistics = new RunStatistics();
+            for (var result : executor.invokeAll(workers))
+                statistics.merge(result.get());
+            return statistics;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A simulated game failed", e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Plays the games handed out by {@code nextGame} until there are none left
+     *
+     * @return the statistics of the games played
+     */
+    private static RunStatistics play(Simulation simulation, AtomicInteger nextGame, int games, long seed,
+                                      int maxTicks, InputPolicy policy) {
+        var statistics = new RunStatistics();
+
+        for (int game = nextGame.getAndIncrement(); game < games; game = nextGame.getAndIncrement()) {
+            simulation.restart(gameSeed(seed, game));
+
+            while (!simulation.isOver() && simulation.getTicks() < maxTicks)
+                simulation.tick(TICK, policy.keys(simulation));
+
+            statistics.add(simulation, simulation.isOver() ? simulation.getDeathCause() : DeathCause.TIME_LIMIT);
+        }
+
+        return statistics;
+    }
+
+    /**
+     * @return the seed of the game with index {@code game} in the batch with {@code seed}, mixed so that the games of
+     * close indexes are not correlated
+     */
+    static long gameSeed(long seed, int game) {
+        return new SplittableRandom(seed + game).nextLong();
+    }
+
+    /**
+     * Plays a batch of games with the {@link BotInputPolicy} and logs its statistics.
+     * Arguments, all optional: the number of games, the number of threads, the seed and the maximum ticks of a game
+     */
+    public static void main(String[] args) throws InterruptedException {
+        var games = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        var threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        var seed = args.length > 2 ? Long.parseLong(args[2]) : 0;
+        var maxTicks = args.length > 3 ? Integer.parseInt(args[3]) : 60 * 60 * 10;
+
+        var simulator = new BatchSimulator(DEFAULT_WORLD, ForestHero.readFrames(), threads);
+
+        var start = System.nanoTime();
+        var statistics = simulator.run(games, seed, maxTicks, new BotInputPolicy(20));
+        var seconds = (System.nanoTime() - start) / 1e9;
+
+        LOGGER.info(statistics.toString());
+        LOGGER.info(String.format("%d games on %d threads in %.2fs, %.0f ticks/s",
+                games, threads, seconds, statistics.getTicks() / seconds));
+    }
+}
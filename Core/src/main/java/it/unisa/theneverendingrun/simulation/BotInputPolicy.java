@@ -0,0 +1,52 @@
+package it.unisa.theneverendingrun.simulation;
+
+import it.unisa.theneverendingrun.HeroInput;
+import it.unisa.theneverendingrun.Simulation;
+import it.unisa.theneverendingrun.models.SpawnableTypes;
+
+/**
+ * Runs right and avoids the first spawnable ahead of the hero once it is close enough: it slides under the ones
+ * hanging from above and jumps over all the others.
+ */
+public class BotInputPolicy implements InputPolicy {
+
+    /**
+     * How far ahead the bot looks, in ticks of the spawnables moving towards the hero
+     */
+    private final int lookaheadTicks;
+
+    /**
+     * @param lookaheadTicks how far ahead the bot looks, in ticks of the spawnables moving towards the hero
+     * @throws IllegalArgumentException if {@code lookaheadTicks} is less than 1
+     */
+    public BotInputPolicy(int lookaheadTicks) {
+        if (lookaheadTicks < 1)
+            throw new IllegalArgumentException("LookaheadTicks must be greater or equal than 1.");
+        this.lookaheadTicks = lookaheadTicks;
+    }
+
+    @Override
+    public int keys(Simulation simulation) {
+        var hero = simulation.getHero();
+        var heroRight = hero.getX() + hero.getWidth();
+        // the spawnables move three times as fast as the background
+        var lookahead = lookaheadTicks * 3 * simulation.getSpeed();
+
+        var spawnables = simulation.getSpawnables();
+        for (int i = 0; i < spawnables.size(); i++) {
+            var spawnable = spawnables.get(i);
+            if (spawnable.getX() + spawnable.getWidth() < hero.getX())
+                continue;
+            // the spawnables are ordered by x, so all the following ones are further
+            if (spawnable.getX() - heroRight > lookahead)
+                break;
+
+            var type = spawnable.getType();
+            if (type == SpawnableTypes.Slidable || type == SpawnableTypes.JumpableSlidable)
+                return HeroInput.RIGHT | HeroInput.SLIDE;
+            return HeroInput.RIGHT | HeroInput.JUMP;
+        }
+
+        return HeroInput.RIGHT;
+    }
+}
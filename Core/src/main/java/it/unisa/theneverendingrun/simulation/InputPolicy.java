@@ -0,0 +1,18 @@
+package it.unisa.theneverendingrun.simulation;
+
+import it.unisa.theneverendingrun.Simulation;
+
+/**
+ * Plays a simulated game in place of a player
+ */
+public interface InputPolicy {
+
+    /**
+     * Decides the keys to press at the next tick. The same policy may play several games at the same time, so it must
+     * not keep any state between the calls
+     *
+     * @param simulation the game played
+     * @return the bitmask of the keys, as defined by {@link it.unisa.theneverendingrun.HeroInput}
+     */
+    int keys(Simulation simulation);
+}
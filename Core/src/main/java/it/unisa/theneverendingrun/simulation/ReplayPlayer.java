@@ -0,0 +1,64 @@
+package it.unisa.theneverendingrun.simulation;
+
+import it.unisa.theneverendingrun.Simulation;
+import it.unisa.theneverendingrun.models.World;
+import it.unisa.theneverendingrun.models.hero.ForestHero;
+import it.unisa.theneverendingrun.streamManager.FileStreamFactory;
+import it.unisa.theneverendingrun.streamManager.Replay;
+import it.unisa.theneverendingrun.streamManager.StreamManager;
+
+import java.util.Random;
+import java.util.logging.Logger;
+
+/**
+ * Plays a recorded run again, headless, to reproduce what happened in it
+ */
+public class ReplayPlayer {
+
+    private static final Logger LOGGER = Logger.getLogger(ReplayPlayer.class.getName());
+
+    /**
+     * Plays a replay, restarting the simulation with its seed and giving it the recorded keys at each tick
+     *
+     * @param simulation the simulation to play on, whose world must be the one of the replay
+     * @param replay     the replay to play
+     * @return true if the final state of the simulation is the recorded one, i.e. the run was reproduced exactly
+     * @throws IllegalArgumentException if the world of the simulation is not the one of the replay
+     */
+    public static boolean play(Simulation simulation, Replay replay) {
+        var world = simulation.getWorld();
+        if (world.getWidth() != replay.getWorldWidth() || world.getHeight() != replay.getWorldHeight())
+            throw new IllegalArgumentException(world + " is not the world of the replay.");
+
+        var tick = 1f / replay.getTickRate();
+        simulation.restart(replay.getSeed());
+        for (int i = 0; i < replay.getTicks(); i++)
+            simulation.tick(tick, replay.getKeys(i));
+
+        return simulation.getStateHash() == replay.getFinalStateHash();
+    }
+
+    /**
+     * Plays the replay saved in the file given as argument and logs how the run ended
+     */
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            LOGGER.severe("Usage: ReplayPlayer <replay file>");
+            return;
+        }
+
+        var replay = new StreamManager(new FileStreamFactory(args[0])).loadReplay();
+        if (replay == null) {
+            LOGGER.severe(args[0] + " is not a replay");
+            return;
+        }
+
+        var simulation = new Simulation(new World(replay.getWorldWidth(), replay.getWorldHeight()),
+                ForestHero.readFrames(), new Random());
+
+        var reproduced = play(simulation, replay);
+        LOGGER.info(String.format("%d ticks, %d meters, score %d, %s, %s", replay.getTicks(), simulation.getMeters(),
+                simulation.getScore(), simulation.isOver() ? simulation.getDeathCause() : "alive",
+                reproduced ? "reproduced" : "diverged from the recording"));
+    }
+}
@@ -0,0 +1,134 @@
+package it.unisa.theneverendingrun.simulation;
+
+import it.unisa.theneverendingrun.DeathCause;
+import it.unisa.theneverendingrun.Simulation;
+import it.unisa.theneverendingrun.models.SpawnableTypes;
+
+/**
+ * Statistics of a set of simulated runs. Each thread collects its own, which are merged at the end, so that the
+ * threads never share them while running.
+ */
+public class RunStatistics {
+
+    private long runs;
+    private long ticks;
+    private long totalMeters;
+    private long totalScore;
+    private int maxMeters;
+    private int maxScore;
+
+    /**
+     * The number of runs ended by each cause, indexed by its ordinal
+     */
+    private final long[] deaths = new long[DeathCause.values().length];
+
+    /**
+     * The number of spawnables of each type that entered the runs, indexed by its ordinal
+     */
+    private final long[] spawned = new long[SpawnableTypes.values().length];
+
+    /**
+     * Accounts for the run the simulation just ended
+     *
+     * @param simulation the simulation of the run
+     * @param cause      how the run ended
+     */
+    public void add(Simulation simulation, DeathCause cause) {
+        runs++;
+        ticks += simulation.getTicks();
+        totalMeters += simulation.getMeters();
+        totalScore += simulation.getScore();
+        maxMeters = Math.max(maxMeters, simulation.getMeters());
+        maxScore = Math.max(maxScore, simulation.getScore());
+        deaths[cause.ordinal()]++;
+        for (var type : SpawnableTypes.values())
+            spawned[type.ordinal()] += simulation.getSpawned(type);
+    }
+
+    /**
+     * Adds the runs accounted by other statistics to these ones
+     *
+     * @param other the statistics to add, left untouched
+     */
+    public void merge(RunStatistics other) {
+        runs += other.runs;
+        ticks += other.ticks;
+        totalMeters += other.totalMeters;
+        totalScore += other.totalScore;
+        maxMeters = Math.max(maxMeters, other.maxMeters);
+        maxScore = Math.max(maxScore, other.maxScore);
+        for (int i = 0; i < deaths.length; i++)
+            deaths[i] += other.deaths[i];
+        for (int i = 0; i < spawned.length; i++)
+            spawned[i] += other.spawned[i];
+    }
+
+    public long getRuns() {
+        return runs;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public long getTotalMeters() {
+        return totalMeters;
+    }
+
+    public long getTotalScore() {
+        return totalScore;
+    }
+
+    public int getMaxMeters() {
+        return maxMeters;
+    }
+
+    public int getMaxScore() {
+        return maxScore;
+    }
+
+    /**
+     * @return the average meters of a run, 0 if no run was accounted
+     */
+    public double getAverageMeters() {
+        return runs == 0 ? 0 : (double) totalMeters / runs;
+    }
+
+    /**
+     * @return the average score of a run, 0 if no run was accounted
+     */
+    public double getAverageScore() {
+        return runs == 0 ? 0 : (double) totalScore / runs;
+    }
+
+    /**
+     * @param cause a way a run can end
+     * @return the number of runs ended by {@code cause}
+     */
+    public long getDeaths(DeathCause cause) {
+        return deaths[cause.ordinal()];
+    }
+
+    /**
+     * @param type a spawnable type
+     * @return the number of spawnables of {@code type} that entered the runs
+     */
+    public long getSpawned(SpawnableTypes type) {
+        return spawned[type.ordinal()];
+    }
+
+    @Override
+    public String toString() {
+        var builder = new StringBuilder("RunStatistics{runs=").append(runs)
+                .append(", ticks=").append(ticks)
+                .append(", averageMeters=").append(String.format("%.1f", getAverageMeters()))
+                .append(", maxMeters=").append(maxMeters)
+                .append(", averageScore=").append(String.format("%.1f", getAverageScore()))
+                .append(", maxScore=").append(maxScore);
+        for (var cause : DeathCause.values())
+            builder.append(", ").append(cause).append('=').append(getDeaths(cause));
+        for (var type : SpawnableTypes.values())
+            builder.append(", ").append(type).append('=').append(getSpawned(type));
+        return builder.append('}').toString();
+    }
+}
@@ -0,0 +1,26 @@
+package it.unisa.theneverendingrun.simulation;
+
+import it.unisa.theneverendingrun.Simulation;
+
+/**
+ * Presses the keys of a script, one bitmask for each tick, starting over when the script ends
+ */
+public class ScriptedInputPolicy implements InputPolicy {
+
+    private final int[] script;
+
+    /**
+     * @param script the bitmasks of the keys to press at each tick
+     * @throws IllegalArgumentException if {@code script} is empty
+     */
+    public ScriptedInputPolicy(int... script) {
+        if (script.length == 0)
+            throw new IllegalArgumentException("Script must not be empty.");
+        this.script = script.clone();
+    }
+
+    @Override
+    public int keys(Simulation simulation) {
+        return script[simulation.getTicks() % script.length];
+    }
+}
@@ -0,0 +1,50 @@
+package it.unisa.theneverendingrun.streamManager;
+
+/**
+ * This class is delegated for keeping the state of a run at the start of a block of its replay, so that a player
+ * seeking the tick of the keyframe can tell whether it reached it in the recorded state
+ */
+public class Keyframe {
+
+    private final int tick;
+    private final int meters;
+    private final int score;
+    private final long stateHash;
+
+    /**
+     * @param tick      the number of ticks simulated before the keyframe was taken
+     * @param meters    the meters run at the keyframe
+     * @param score     the score reached at the keyframe
+     * @param stateHash the hash of the state of the game at the keyframe
+     */
+    public Keyframe(int tick, int meters, int score, long stateHash) {
+        this.tick = tick;
+        this.meters = meters;
+        this.score = score;
+        this.stateHash = stateHash;
+    }
+
+    /**
+     * @return the number of ticks simulated before the keyframe was taken, i.e. the index of the first tick after it
+     */
+    public int getTick() {
+        return tick;
+    }
+
+    public int getMeters() {
+        return meters;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public long getStateHash() {
+        return stateHash;
+    }
+
+    @Override
+    public String toString() {
+        return "Keyframe{tick=" + tick + ", meters=" + meters + ", score=" + score + ", stateHash=" + stateHash + '}';
+    }
+}
@@ -0,0 +1,76 @@
+package it.unisa.theneverendingrun.streamManager;
+
+/**
+ * This class is delegated for keeping what is needed to play a run again exactly as it was played:
+ * the world and tick rate it was simulated with, the seed of its random numbers and the keys pressed at each tick.
+ * The hash of the final state of the run tells whether a playback reproduced it.
+ */
+public class Replay {
+
+    private final int worldWidth;
+    private final int worldHeight;
+    private final int tickRate;
+    private final long seed;
+
+    /**
+     * The bitmask of the keys pressed at each tick
+     */
+    private final byte[] keys;
+
+    /**
+     * The hash of the state of the game at the end of the run
+     */
+    private final long finalStateHash;
+
+    /**
+     * @param worldWidth     the width of the simulated world
+     * @param worldHeight    the height of the simulated world
+     * @param tickRate       the number of ticks per second
+     * @param seed           the seed of the random numbers of the run
+     * @param keys           the bitmask of the keys pressed at each tick, copied
+     * @param finalStateHash the hash of the state of the game at the end of the run
+     */
+    public Replay(int worldWidth, int worldHeight, int tickRate, long seed, byte[] keys, long finalStateHash) {
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.tickRate = tickRate;
+        this.seed = seed;
+        this.keys = keys.clone();
+        this.finalStateHash = finalStateHash;
+    }
+
+    public int getWorldWidth() {
+        return worldWidth;
+    }
+
+    public int getWorldHeight() {
+        return worldHeight;
+    }
+
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return the number of ticks of the run
+     */
+    public int getTicks() {
+        return keys.length;
+    }
+
+    /**
+     * @param tick the index of a tick, from 0
+     * @return the bitmask of the keys pressed at {@code tick}
+     */
+    public int getKeys(int tick) {
+        return keys[tick] & 0xFF;
+    }
+
+    public long getFinalStateHash() {
+        return finalStateHash;
+    }
+}
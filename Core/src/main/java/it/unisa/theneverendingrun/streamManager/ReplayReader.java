@@ -0,0 +1,290 @@
+package it.unisa.theneverendingrun.streamManager;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * This class is delegated for reading a replay written by a {@link ReplayWriter}, the keys of a tick after the other.
+ * Only the block holding the current tick is decompressed, and the block of any tick is found from the footer index
+ * by a binary search, so seeking does not depend on the length of the run.
+ */
+public class ReplayReader {
+
+    /**
+     * The whole replay, read only by absolute gets
+     */
+    private final ByteBuffer buffer;
+
+    private final int worldWidth;
+    private final int worldHeight;
+    private final int tickRate;
+    private final long seed;
+    private final int ticks;
+    private final long finalStateHash;
+
+    /**
+     * The first tick and the offset of each block, in the order of the ticks
+     */
+    private final int[] blockFirstTicks;
+    private final int[] blockOffsets;
+
+    private final Inflater inflater = new Inflater();
+
+    /**
+     * The decompressed block holding the next tick, positioned at its next run
+     */
+    private ByteBuffer block = ByteBuffer.allocate(0);
+    private int blockIndex = -1;
+
+    /**
+     * The next tick whose keys are read, and the keys and remaining ticks of its run
+     */
+    private int tick;
+    private int runKeys;
+    private int runRemaining;
+
+    /**
+     * Reads the header and the footer of a replay, positioning the reader at its first tick
+     *
+     * @param buffer the bytes of the replay, from its position to its limit
+     * @throws DataFormatException if the buffer does not hold a replay
+     */
+    public ReplayReader(ByteBuffer buffer) throws DataFormatException {
+        this.buffer = buffer.slice();
+
+        try {
+            if (this.buffer.getInt(0) != ReplayWriter.MAGIC || this.buffer.get(4) != ReplayWriter.VERSION)
+                throw new DataFormatException("Not a replay");
+            worldWidth = this.buffer.getInt(5);
+            worldHeight = this.buffer.getInt(9);
+            tickRate = this.buffer.getInt(13);
+            seed = this.buffer.getLong(17);
+
+            var footerOffset = this.buffer.getLong(this.buffer.limit() - 8);
+            if (footerOffset < ReplayWriter.HEADER_BYTES || footerOffset > this.buffer.limit() - 8
+                    || this.buffer.get((int) footerOffset) != ReplayWriter.FOOTER_TAG)
+                throw new DataFormatException("Replay footer not found");
+
+            var position = (int) footerOffset + 1;
+            var blocks = this.buffer.getInt(position);
+            if (blocks < 0 || blocks > (this.buffer.limit() - position) / (4 + 8))
+                throw new DataFormatException("Wrong number of replay blocks: " + blocks);
+            position += 4;
+
+            blockFirstTicks = new int[blocks];
+            blockOffsets = new int[blocks];
+            for (int i = 0; i < blocks; i++) {
+                blockFirstTicks[i] = this.buffer.getInt(position);
+                var offset = this.buffer.getLong(position + 4);
+                if (offset < ReplayWriter.HEADER_BYTES || offset >= footerOffset)
+                    throw new DataFormatException("Replay block out of the replay: " + offset);
+                blockOffsets[i] = (int) offset;
+                position += 4 + 8;
+            }
+            ticks = this.buffer.getInt(position);
+            finalStateHash = this.buffer.getLong(position + 4);
+        } catch (IndexOutOfBoundsException e) {
+            throw new DataFormatException("Truncated replay");
+        }
+    }
+
+    /**
+     * Maps a replay file in memory and reads its header and its footer
+     *
+     * @param file the replay file
+     * @return the reader of the replay, positioned at its first tick
+     * @throws IOException         if the file cannot be read
+     * @throws DataFormatException if the file does not hold a replay
+     */
+    public static ReplayReader open(Path file) throws IOException, DataFormatException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new ReplayReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Positions the reader at a tick, decompressing only the block holding it
+     *
+     * @param tick the index of a tick, from 0 up to the number of ticks of the run
+     * @return the keyframe at the start of the block holding {@code tick}, null if the run has no ticks
+     * @throws IllegalArgumentException if {@code tick} is not a tick of the run
+     * @throws DataFormatException      if the block is corrupted
+     */
+    public Keyframe seek(int tick) throws DataFormatException {
+        if (tick < 0 || tick > ticks)
+            throw new IllegalArgumentException("Tick must be between 0 and " + ticks + ".");
+        if (blockFirstTicks.length == 0)
+            return null;
+
+        int low = 0;
+        int high = blockFirstTicks.length - 1;
+        while (low < high) {
+            var middle = (low + high + 1) >>> 1;
+            if (blockFirstTicks[middle] <= tick)
+                low = middle;
+            else
+                high = middle - 1;
+        }
+
+        loadBlock(low);
+        var keyframe = new Keyframe(block.getInt(), block.getInt(), block.getInt(), block.getLong());
+        this.tick = keyframe.getTick();
+        runRemaining = 0;
+
+        while (this.tick < tick) {
+            if (runRemaining == 0)
+                readRun();
+            var skipped = Math.min(runRemaining, tick - this.tick);
+            runRemaining -= skipped;
+            this.tick += skipped;
+        }
+        return keyframe;
+    }
+
+    /**
+     * @return true if the run has ticks after the current one
+     */
+    public boolean hasNextKeys() {
+        return tick < ticks;
+    }
+
+    /**
+     * Reads the keys of the current tick, moving to the next one
+     *
+     * @return the bitmask of the keys pressed at the current tick
+     * @throws NoSuchElementException if the run has no more ticks
+     * @throws DataFormatException    if a block is corrupted
+     */
+    public int nextKeys() throws DataFormatException {
+        if (!hasNextKeys())
+            throw new NoSuchElementException("The replay has " + ticks + " ticks");
+
+        if (runRemaining == 0)
+            readRun();
+        runRemaining--;
+        tick++;
+        return runKeys;
+    }
+
+    /**
+     * Reads the whole run from its first tick
+     *
+     * @return the replay of the run
+     * @throws DataFormatException if a block is corrupted
+     */
+    public Replay readReplay() throws DataFormatException {
+        seek(0);
+        var keys = new byte[ticks];
+        for (int i = 0; i < ticks; i++)
+            keys[i] = (byte) nextKeys();
+        return new Replay(worldWidth, worldHeight, tickRate, seed, keys, finalStateHash);
+    }
+
+    private void readRun() throws DataFormatException {
+        if (!block.hasRemaining()) {
+            if (blockIndex + 1 == blockOffsets.length)
+                throw new DataFormatException("Replay blocks shorter than " + ticks + " ticks");
+            loadBlock(blockIndex + 1);
+            block.position(ReplayWriter.KEYFRAME_BYTES);
+        }
+
+        try {
+            runKeys = block.get() & 0xFF;
+            int length = 0;
+            for (int shift = 0; ; shift += 7) {
+                var group = block.get();
+                length |= (group & 0x7F) << shift;
+                if (group >= 0)
+                    break;
+                if (shift == 7 * (ReplayWriter.MAX_RUN_LENGTH_BYTES - 1))
+                    throw new DataFormatException("Replay run too long");
+            }
+            if (length <= 0)
+                throw new DataFormatException("Replay run of " + length + " ticks");
+            runRemaining = length;
+        } catch (IndexOutOfBoundsException e) {
+            throw new DataFormatException("Truncated replay run");
+        }
+    }
+
+    private void loadBlock(int index) throws DataFormatException {
+        var offset = blockOffsets[index];
+        try {
+            if (buffer.get(offset) != ReplayWriter.BLOCK_TAG || buffer.getInt(offset + 1) != blockFirstTicks[index])
+                throw new DataFormatException("Replay block not found at " + offset);
+            var rawLength = buffer.getInt(offset + 9);
+            var compressedLength = buffer.getInt(offset + 13);
+            if (rawLength < ReplayWriter.KEYFRAME_BYTES || compressedLength < 0)
+                throw new DataFormatException("Wrong replay block lengths at " + offset);
+
+            // a byte more than the block takes, so that inflating past its length is told from reaching its end
+            if (block.capacity() <= rawLength)
+                block = ByteBuffer.allocate(rawLength + 1);
+            block.clear().limit(rawLength + 1);
+
+            var input = buffer.duplicate();
+            input.position(offset + ReplayWriter.BLOCK_HEADER_BYTES)
+                    .limit(offset + ReplayWriter.BLOCK_HEADER_BYTES + compressedLength);
+            inflater.reset();
+            inflater.setInput(input);
+            while (!inflater.finished()) {
+                if (inflater.inflate(block) == 0 && (inflater.needsInput() || inflater.needsDictionary()
+                        || !block.hasRemaining()))
+                    throw new DataFormatException("Truncated replay block at " + offset);
+            }
+            if (block.position() != rawLength)
+                throw new DataFormatException("Replay block of wrong length at " + offset);
+            block.flip();
+            blockIndex = index;
+        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new DataFormatException("Truncated replay block at " + offset);
+        }
+    }
+
+    public int getWorldWidth() {
+        return worldWidth;
+    }
+
+    public int getWorldHeight() {
+        return worldHeight;
+    }
+
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return the number of ticks of the run
+     */
+    public int getTicks() {
+        return ticks;
+    }
+
+    /**
+     * @return the index of the tick {@link #nextKeys()} reads the keys of
+     */
+    public int getTick() {
+        return tick;
+    }
+
+    /**
+     * @return the number of keyframes, one at the start of each block
+     */
+    public int getKeyframes() {
+        return blockFirstTicks.length;
+    }
+
+    public long getFinalStateHash() {
+        return finalStateHash;
+    }
+}
@@ -0,0 +1,22 @@
+package it.unisa.theneverendingrun.streamManager;
+
+/**
+ * The state of a run that the keyframes of its replay are taken from
+ */
+public interface ReplayState {
+
+    /**
+     * @return the meters run so far
+     */
+    int getMeters();
+
+    /**
+     * @return the score reached so far
+     */
+    int getScore();
+
+    /**
+     * @return the hash of the current state of the game, equal in two runs only if they are in the same state
+     */
+    long getStateHash();
+}
@@ -0,0 +1,478 @@
+package it.unisa.theneverendingrun.streamManager;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Logger;
+import java.util.zip.Deflater;
+
+/**
+ * This class is delegated for streaming the replay of each run to a file while the run is played.
+ * The thread playing the run only copies a few bytes per tick into a ring buffer, pre-sized and off the heap, and
+ * never waits: a writer thread takes them from there, run-length encodes the keys and writes them in compressed
+ * blocks as the blocks fill up. If the writer falls so far behind that the ring buffer is full, the replay of the
+ * run is dropped rather than blocking the game.
+ * <p>
+ * A replay file is laid out as:
+ * <ul>
+ * <li>a header: magic, version, world width and height, tick rate, seed and ticks per block;</li>
+ * <li>the blocks, one every few seconds of the run. A block holds the {@link Keyframe} of its first tick, then the
+ * runs of ticks with the same keys, each as the keys byte and the length of the run in 7-bit groups, all compressed
+ * with {@link Deflater};</li>
+ * <li>a footer: the first tick and the offset of each block, the number of ticks and the hash of the final state;</li>
+ * <li>the offset of the footer, so that a {@link ReplayReader} finds the block of any tick by a binary search.</li>
+ * </ul>
+ * The replay of a run is written aside and replaces the previous one only when the run ends, so the file always
+ * holds the replay of the last ended run.
+ */
+public class ReplayWriter {
+
+    private static final Logger LOGGER = Logger.getLogger(ReplayWriter.class.getName());
+
+    /**
+     * The first bytes of a replay, "TNRR"
+     */
+    static final int MAGIC = 0x544E5252;
+
+    /**
+     * The version of the replay format
+     */
+    static final byte VERSION = 2;
+
+    static final byte BLOCK_TAG = 1;
+    static final byte FOOTER_TAG = 2;
+
+    static final int HEADER_BYTES = 4 + 1 + 4 + 4 + 4 + 8 + 4;
+    static final int BLOCK_HEADER_BYTES = 1 + 4 + 4 + 4 + 4;
+    static final int KEYFRAME_BYTES = 4 + 4 + 4 + 8;
+
+    /**
+     * The most bytes the length of a run takes, 7 bits each
+     */
+    static final int MAX_RUN_LENGTH_BYTES = 5;
+
+    /**
+     * The records copied into the ring buffer by the thread playing the run, each a type byte and its fields
+     */
+    private static final byte START = 1;
+    private static final byte KEYFRAME = 2;
+    private static final byte KEYS = 3;
+    private static final byte FINISH = 4;
+
+    private static final int START_BYTES = 1 + 8;
+    private static final int KEYFRAME_RECORD_BYTES = 1 + KEYFRAME_BYTES;
+    private static final int KEYS_BYTES = 1 + 1;
+    private static final int FINISH_BYTES = 1 + 8;
+
+    /**
+     * How long the writer thread sleeps when there is nothing to write
+     */
+    private static final long IDLE_PARK_NANOS = 10_000_000;
+
+    private final Path file;
+    private final Path partFile;
+    private final int worldWidth;
+    private final int worldHeight;
+    private final int tickRate;
+    private final int keyframeTicks;
+
+    /**
+     * The records not written yet, from the read position to the written one modulo the capacity
+     */
+    private final ByteBuffer ring;
+    private final int mask;
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong read = new AtomicLong();
+
+    /**
+     * The state of the thread playing the runs: the next position to copy a record to, the ticks recorded in the
+     * current run and whether the current run is recorded at all
+     */
+    private long writePosition;
+    private int ticks;
+    private boolean recording;
+
+    private volatile boolean closed;
+    private final Thread thread;
+
+    /**
+     * The state of the writer thread: the next position to read a record from, the file of the run being written,
+     * null if none, the block being filled and the index of the blocks written
+     */
+    private long readPosition;
+    private FileChannel channel;
+    private final ByteBuffer header = ByteBuffer.allocateDirect(Math.max(HEADER_BYTES, BLOCK_HEADER_BYTES));
+    private final ByteBuffer block;
+    private final ByteBuffer compressed;
+    private final Deflater deflater = new Deflater();
+    private boolean blockOpen;
+    private int blockFirstTick;
+    private int blockTicks;
+    private int runKeys;
+    private int runLength;
+    private int writtenTicks;
+    private int blocks;
+    private int[] blockFirstTicks = new int[16];
+    private long[] blockOffsets = new long[16];
+
+    /**
+     * Starts the writer thread
+     *
+     * @param file            the file the replay of the last ended run is kept in
+     * @param worldWidth      the width of the simulated world
+     * @param worldHeight     the height of the simulated world
+     * @param tickRate        the number of ticks per second
+     * @param keyframeSeconds the seconds of the run in each block, i.e. between two keyframes
+     * @param bufferCapacity  the capacity in bytes of the ring buffer, a power of two
+     * @throws IllegalArgumentException if {@code tickRate} or {@code keyframeSeconds} is less than 1 or if
+     *                                  {@code bufferCapacity} is not a power of two large enough for a tick
+     */
+    public ReplayWriter(Path file, int worldWidth, int worldHeight, int tickRate, int keyframeSeconds,
+                        int bufferCapacity) {
+        if (tickRate < 1)
+            throw new IllegalArgumentException("TickRate must be greater or equal than 1.");
+        if (keyframeSeconds < 1)
+            throw new IllegalArgumentException("KeyframeSeconds must be greater or equal than 1.");
+        if (Integer.bitCount(bufferCapacity) != 1 || bufferCapacity < KEYFRAME_RECORD_BYTES + KEYS_BYTES)
+            throw new IllegalArgumentException("BufferCapacity must be a power of two of at least "
+                    + (KEYFRAME_RECORD_BYTES + KEYS_BYTES) + " bytes.");
+
+        this.file = file;
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.tickRate = tickRate;
+        keyframeTicks = keyframeSeconds * tickRate;
+        partFile = file.resolveSibling(file.getFileName() + ".part");
+
+        ring = ByteBuffer.allocateDirect(bufferCapacity);
+        mask = bufferCapacity - 1;
+
+        var blockCapacity = KEYFRAME_BYTES + keyframeTicks * (1 + MAX_RUN_LENGTH_BYTES);
+        block = ByteBuffer.allocateDirect(blockCapacity);
+        // deflate expands incompressible data by a few bytes every 16KB, plus its header and trailer
+        compressed = ByteBuffer.allocateDirect(blockCapacity + blockCapacity / 8 + 64);
+
+        thread = new Thread(this::write, "replay writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Starts recording a run. The run being recorded, if any, is dropped
+     *
+     * @param seed the seed of the random numbers of the run
+     */
+    public void start(long seed) {
+        ticks = 0;
+        recording = hasRoom(START_BYTES);
+        if (!recording) {
+            LOGGER.warning("Replay buffer full, the replay of the run is dropped");
+            return;
+        }
+
+        putByte(START);
+        putLong(seed);
+        written.lazySet(writePosition);
+    }
+
+    /**
+     * Records the keys pressed at the next tick, taking a keyframe of the state before the tick if it starts a block
+     *
+     * @param keys  the bitmask of the keys, which must fit in a byte
+     * @param state the state of the run before the tick is simulated
+     * @throws IllegalArgumentException if {@code keys} does not fit in a byte
+     */
+    public void record(int keys, ReplayState state) {
+        if ((keys & ~0xFF) != 0)
+            throw new IllegalArgumentException("Keys must fit in a byte.");
+        if (!recording)
+            return;
+
+        var keyframe = ticks % keyframeTicks == 0;
+        if (!hasRoom(keyframe ? KEYFRAME_RECORD_BYTES + KEYS_BYTES : KEYS_BYTES)) {
+            drop();
+            return;
+        }
+
+        if (keyframe) {
+            putByte(KEYFRAME);
+            putInt(ticks);
+            putInt(state.getMeters());
+            putInt(state.getScore());
+            putLong(state.getStateHash());
+        }
+        putByte(KEYS);
+        putByte((byte) keys);
+        written.lazySet(writePosition);
+        ticks++;
+    }
+
+    /**
+     * Ends the recording of the run, whose replay replaces the previous one once the writer thread writes it
+     *
+     * @param state the state of the run at its end
+     */
+    public void finish(ReplayState state) {
+        if (!recording)
+            return;
+        if (!hasRoom(FINISH_BYTES)) {
+            drop();
+            return;
+        }
+
+        putByte(FINISH);
+        putLong(state.getStateHash());
+        written.lazySet(writePosition);
+        recording = false;
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * @return the number of ticks recorded since the run started
+     */
+    public int getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Stops the writer thread once it wrote the ended runs, dropping the run being recorded, if any
+     */
+    public void close() {
+        closed = true;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        deflater.end();
+    }
+
+    private boolean hasRoom(int bytes) {
+        return writePosition + bytes - read.get() <= ring.capacity();
+    }
+
+    private void drop() {
+        recording = false;
+        LOGGER.warning("Replay buffer full, the replay of the run is dropped");
+    }
+
+    private void putByte(byte value) {
+        ring.put((int) (writePosition++ & mask), value);
+    }
+
+    private void putInt(int value) {
+        for (int shift = 24; shift >= 0; shift -= 8)
+            putByte((byte) (value >>> shift));
+    }
+
+    private void putLong(long value) {
+        for (int shift = 56; shift >= 0; shift -= 8)
+            putByte((byte) (value >>> shift));
+    }
+
+    private byte getByte() {
+        return ring.get((int) (readPosition++ & mask));
+    }
+
+    private int getInt() {
+        int value = 0;
+        for (int i = 0; i < 4; i++)
+            value = value << 8 | getByte() & 0xFF;
+        return value;
+    }
+
+    private long getLong() {
+        long value = 0;
+        for (int i = 0; i < 8; i++)
+            value = value << 8 | getByte() & 0xFF;
+        return value;
+    }
+
+    /**
+     * The loop of the writer thread, which writes the records as they are copied into the ring buffer
+     */
+    private void write() {
+        while (true) {
+            var wasClosed = closed;
+            var available = written.get();
+            if (readPosition == available) {
+                if (wasClosed)
+                    break;
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                continue;
+            }
+
+            while (readPosition < available)
+                writeRecord();
+            read.lazySet(readPosition);
+        }
+        abandonRun();
+    }
+
+    private void writeRecord() {
+        var type = getByte();
+        try {
+            switch (type) {
+                case START:
+                    beginRun(getLong());
+                    break;
+                case KEYFRAME:
+                    var tick = getInt();
+                    var meters = getInt();
+                    var score = getInt();
+                    var stateHash = getLong();
+                    if (channel != null)
+                        beginBlock(tick, meters, score, stateHash);
+                    break;
+                case KEYS:
+                    var keys = getByte() & 0xFF;
+                    if (channel != null)
+                        encodeKeys(keys);
+                    break;
+                case FINISH:
+                    var finalStateHash = getLong();
+                    if (channel != null)
+                        endRun(finalStateHash);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown replay record " + type);
+            }
+        } catch (IOException e) {
+            LOGGER.warning("Cannot write the replay to " + partFile + ": " + e.getMessage());
+            abandonRun();
+        }
+    }
+
+    private void beginRun(long seed) throws IOException {
+        abandonRun();
+        channel = FileChannel.open(partFile, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+
+        header.clear();
+        header.putInt(MAGIC).put(VERSION).putInt(worldWidth).putInt(worldHeight).putInt(tickRate).putLong(seed)
+                .putInt(keyframeTicks);
+        header.flip();
+        writeFully(header);
+
+        blockOpen = false;
+        writtenTicks = 0;
+        blocks = 0;
+    }
+
+    private void beginBlock(int tick, int meters, int score, long stateHash) throws IOException {
+        if (blockOpen)
+            endBlock();
+
+        block.clear();
+        block.putInt(tick).putInt(meters).putInt(score).putLong(stateHash);
+        blockFirstTick = tick;
+        blockTicks = 0;
+        runLength = 0;
+        blockOpen = true;
+    }
+
+    private void encodeKeys(int keys) {
+        if (runLength > 0 && keys != runKeys)
+            encodeRun();
+        if (runLength == 0)
+            runKeys = keys;
+        runLength++;
+        blockTicks++;
+        writtenTicks++;
+    }
+
+    private void encodeRun() {
+        block.put((byte) runKeys);
+        var length = runLength;
+        while ((length & ~0x7F) != 0) {
+            block.put((byte) (length & 0x7F | 0x80));
+            length >>>= 7;
+        }
+        block.put((byte) length);
+        runLength = 0;
+    }
+
+    private void endBlock() throws IOException {
+        if (runLength > 0)
+            encodeRun();
+        block.flip();
+        var rawLength = block.remaining();
+
+        deflater.reset();
+        deflater.setInput(block);
+        deflater.finish();
+        compressed.clear();
+        while (!deflater.finished()) {
+            if (!compressed.hasRemaining())
+                throw new IllegalStateException("Compressed replay block larger than " + compressed.capacity());
+            deflater.deflate(compressed);
+        }
+        compressed.flip();
+
+        if (blocks == blockOffsets.length) {
+            var grownTicks = new int[blocks * 2];
+            var grownOffsets = new long[blocks * 2];
+            System.arraycopy(blockFirstTicks, 0, grownTicks, 0, blocks);
+            System.arraycopy(blockOffsets, 0, grownOffsets, 0, blocks);
+            blockFirstTicks = grownTicks;
+            blockOffsets = grownOffsets;
+        }
+        blockFirstTicks[blocks] = blockFirstTick;
+        blockOffsets[blocks] = channel.position();
+        blocks++;
+
+        header.clear();
+        header.put(BLOCK_TAG).putInt(blockFirstTick).putInt(blockTicks).putInt(rawLength)
+                .putInt(compressed.remaining());
+        header.flip();
+        writeFully(header);
+        writeFully(compressed);
+        blockOpen = false;
+    }
+
+    private void endRun(long finalStateHash) throws IOException {
+        if (blockOpen)
+            endBlock();
+
+        var footerOffset = channel.position();
+        var footer = ByteBuffer.allocate(1 + 4 + blocks * (4 + 8) + 4 + 8 + 8);
+        footer.put(FOOTER_TAG).putInt(blocks);
+        for (int i = 0; i < blocks; i++)
+            footer.putInt(blockFirstTicks[i]).putLong(blockOffsets[i]);
+        footer.putInt(writtenTicks).putLong(finalStateHash).putLong(footerOffset);
+        footer.flip();
+        writeFully(footer);
+
+        channel.close();
+        channel = null;
+        Files.move(partFile, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+    }
+
+    /**
+     * Drops the run being written, if any, deleting its partial file
+     */
+    private void abandonRun() {
+        if (channel == null)
+            return;
+
+        try {
+            channel.close();
+            Files.deleteIfExists(partFile);
+        } catch (IOException e) {
+            LOGGER.warning("Cannot delete " + partFile + ": " + e.getMessage());
+        }
+        channel = null;
+    }
+}
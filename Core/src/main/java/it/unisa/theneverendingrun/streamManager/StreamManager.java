@@ -3,6 +3,8 @@ package it.unisa.theneverendingrun.streamManager;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
 
 /**
  * This class is delegated to load (save) data from (to) a specific {@link java.io.InputStream}
@@ -64,5 +66,20 @@ public class StreamManager {
         }
     }
 
+    /**
+     * Loads a {@link Replay} object, written by a {@link ReplayWriter}, from the input stream
+     *
+     * @return the replay loaded, null if the stream cannot be read or does not hold a replay
+     */
+    public Replay loadReplay() {
+        try {
+            var inputStream = streamFactory.createInputStream();
+            var bytes = inputStream.readAllBytes();
+            inputStream.close();
 
+            return new ReplayReader(ByteBuffer.wrap(bytes)).readReplay();
+        } catch (IOException | DataFormatException e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,186 @@
+package it.unisa.theneverendingrun.utilities;
+
+/**
+ * Allocation-free computations on axis-aligned bounding boxes, given as their bottom-left corner and size.
+ * The contact sides are named after the side of the obstacle the hero touches.
+ */
+public class AabbUtils {
+
+    /**
+     * The hero touches the right side of the obstacle, i.e. the obstacle is on the left of the hero
+     */
+    public static final int RIGHT = 0;
+
+    /**
+     * The hero touches the bottom side of the obstacle, i.e. the obstacle is below the hero
+     */
+    public static final int BOTTOM = 1;
+
+    /**
+     * The hero touches the left side of the obstacle, i.e. the obstacle is on the right of the hero
+     */
+    public static final int LEFT = 2;
+
+    /**
+     * The hero touches the top side of the obstacle, i.e. the obstacle is above the hero
+     */
+    public static final int TOP = 3;
+
+    /**
+     * The boxes do not touch
+     */
+    public static final int NONE = -1;
+
+    /**
+     * The thickness of the strips probing the sides of the hero
+     */
+    private static final float PROBE = 1;
+
+    /**
+     * Computes how much two segments of the same axis overlap, i.e. the penetration depth of two boxes on that axis
+     *
+     * @param a       the start of the first segment
+     * @param aLength the length of the first segment
+     * @param b       the start of the second segment
+     * @param bLength the length of the second segment
+     * @return the length of the overlap, 0 if the segments do not overlap
+     */
+    public static float overlap(float a, float aLength, float b, float bLength) {
+        var overlap = Math.min(a + aLength, b + bLength) - Math.max(a, b);
+        return overlap > 0 ? overlap : 0;
+    }
+
+    /**
+     * Checks if two boxes overlap or touch on a side
+     *
+     * @return true if the boxes overlap or touch
+     */
+    public static boolean intersects(float x, float y, float width, float height,
+                                     float otherX, float otherY, float otherWidth, float otherHeight) {
+        return x <= otherX + otherWidth && otherX <= x + width && y <= otherY + otherHeight && otherY <= y + height;
+    }
+
+    /**
+     * Computes the side of the obstacle the hero touches from the positions of both boxes before and after they
+     * moved. If the boxes were apart on exactly one axis before moving, the hero came in from that side; otherwise
+     * the side is the one whose 1 pixel thick strip around the hero overlaps the obstacle the most.
+     *
+     * @return one of {@link #RIGHT}, {@link #BOTTOM}, {@link #LEFT}, {@link #TOP} or {@link #NONE}
+     */
+    public static int contactSide(float heroPreviousX, float heroPreviousY, float heroX, float heroY,
+                                  float heroWidth, float heroHeight,
+                                  float obstaclePreviousX, float obstaclePreviousY, float obstacleX, float obstacleY,
+                                  float obstacleWidth, float obstacleHeight) {
+        var wasRight = heroPreviousX >= obstaclePreviousX + obstacleWidth;
+        var wasLeft = heroPreviousX + heroWidth <= obstaclePreviousX;
+        var wasAbove = heroPreviousY >= obstaclePreviousY + obstacleHeight;
+        var wasBelow = heroPreviousY + heroHeight <= obstaclePreviousY;
+
+        var apartOnX = wasRight || wasLeft;
+        var apartOnY = wasAbove || wasBelow;
+
+        if (apartOnX && !apartOnY)
+            return wasRight ? RIGHT : LEFT;
+        if (apartOnY && !apartOnX)
+            return wasAbove ? BOTTOM : TOP;
+
+        return contactSide(heroX, heroY, heroWidth, heroHeight, obstacleX, obstacleY, obstacleWidth, obstacleHeight);
+    }
+
+    /**
+     * Computes the side of the obstacle the hero touches as the one whose 1 pixel thick strip around the hero
+     * overlaps the obstacle the most. On ties the first side in the order right, bottom, left, top wins.
+     *
+     * @return one of {@link #RIGHT}, {@link #BOTTOM}, {@link #LEFT}, {@link #TOP} or {@link #NONE}
+     */
+    public static int contactSide(float heroX, float heroY, float heroWidth, float heroHeight,
+                                  float obstacleX, float obstacleY, float obstacleWidth, float obstacleHeight) {
+        var overlapX = overlap(heroX, heroWidth, obstacleX, obstacleWidth);
+        var overlapY = overlap(heroY, heroHeight, obstacleY, obstacleHeight);
+
+        var side = NONE;
+        float greatestArea = 0;
+
+        var area = overlap(heroX - PROBE, PROBE, obstacleX, obstacleWidth) * overlapY;
+        if (area > greatestArea) {
+            greatestArea = area;
+            side = RIGHT;
+        }
+
+        area = overlapX * overlap(heroY - PROBE, PROBE, obstacleY, obstacleHeight);
+        if (area > greatestArea) {
+            greatestArea = area;
+            side = BOTTOM;
+        }
+
+        area = overlap(heroX + heroWidth, PROBE, obstacleX, obstacleWidth) * overlapY;
+        if (area > greatestArea) {
+            greatestArea = area;
+            side = LEFT;
+        }
+
+        area = overlapX * overlap(heroY + heroHeight, PROBE, obstacleY, obstacleHeight);
+        if (area > greatestArea)
+            side = TOP;
+
+        return side;
+    }
+
+    /**
+     * Computes the side of the obstacle the hero hits while both boxes move from their previous to their current
+     * positions, for boxes that are apart both before and after moving but may have passed through each other.
+     * The motion is taken as linear, and the side is the one of the axis on which the boxes start overlapping last.
+     *
+     * @return one of {@link #RIGHT}, {@link #BOTTOM}, {@link #LEFT}, {@link #TOP}, or {@link #NONE} if the boxes
+     * do not meet while moving or already overlapped before moving
+     */
+    public static int sweptContactSide(float heroPreviousX, float heroPreviousY, float heroX, float heroY,
+                                       float heroWidth, float heroHeight,
+                                       float obstaclePreviousX, float obstaclePreviousY, float obstacleX, float obstacleY,
+                                       float obstacleWidth, float obstacleHeight) {
+        // the motion of the hero as seen from the obstacle
+        var dx = (heroX - heroPreviousX) - (obstacleX - obstaclePreviousX);
+        var dy = (heroY - heroPreviousY) - (obstacleY - obstaclePreviousY);
+
+        var entryX = entryTime(heroPreviousX, heroWidth, obstaclePreviousX, obstacleWidth, dx);
+        var exitX = exitTime(heroPreviousX, heroWidth, obstaclePreviousX, obstacleWidth, dx);
+        var entryY = entryTime(heroPreviousY, heroHeight, obstaclePreviousY, obstacleHeight, dy);
+        var exitY = exitTime(heroPreviousY, heroHeight, obstaclePreviousY, obstacleHeight, dy);
+
+        var entry = Math.max(entryX, entryY);
+        var exit = Math.min(exitX, exitY);
+
+        if (entry >= exit || entry < 0 || entry > 1)
+            return NONE;
+
+        if (entryX > entryY)
+            return dx > 0 ? LEFT : RIGHT;
+        return dy > 0 ? TOP : BOTTOM;
+    }
+
+    /**
+     * Computes when a segment moving by {@code d} starts overlapping a still one, as a fraction of the motion
+     *
+     * @return the entry time, negative infinity if the segments always overlap, positive infinity if they never do
+     */
+    private static float entryTime(float a, float aLength, float b, float bLength, float d) {
+        if (d > 0)
+            return (b - (a + aLength)) / d;
+        if (d < 0)
+            return (b + bLength - a) / d;
+        return overlap(a, aLength, b, bLength) > 0 ? Float.NEGATIVE_INFINITY : Float.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Computes when a segment moving by {@code d} stops overlapping a still one, as a fraction of the motion
+     *
+     * @return the exit time, positive infinity if the segments always overlap, negative infinity if they never do
+     */
+    private static float exitTime(float a, float aLength, float b, float bLength, float d) {
+        if (d > 0)
+            return (b + bLength - a) / d;
+        if (d < 0)
+            return (b - (a + aLength)) / d;
+        return overlap(a, aLength, b, bLength) > 0 ? Float.POSITIVE_INFINITY : Float.NEGATIVE_INFINITY;
+    }
+}
@@ -0,0 +1,46 @@
+package it.unisa.theneverendingrun.utilities;
+
+import java.util.Random;
+
+public class MathUtils {
+
+    public static final double DELTA = 1e-4;
+
+    /**
+     * Computes the sum of (i^2) from i=1 to n with a direct formula
+     *
+     * @param n the upper bound of summation
+     * @return the sum of (i^2) from i=1 to n
+     */
+    public static int sumSquares(int n) {
+        return n * (n + 1) * (2 * n + 1) / 6;
+    }
+
+    /**
+     * Draws a double uniformly from a range
+     *
+     * @param random the source of the random numbers
+     * @param origin the least value that can be drawn
+     * @param bound  the upper bound, exclusive, of the values that can be drawn
+     * @return a double in range [origin, bound)
+     */
+    public static double nextDouble(Random random, double origin, double bound) {
+        var value = origin + random.nextDouble() * (bound - origin);
+        return value < bound ? value : Math.nextDown(bound);
+    }
+
+    /**
+     * Draws an int uniformly from a range
+     *
+     * @param random the source of the random numbers
+     * @param origin the least value that can be drawn
+     * @param bound  the upper bound, exclusive, of the values that can be drawn
+     * @return an int in range [origin, bound)
+     * @throws IllegalArgumentException if {@code origin} is not less than {@code bound}
+     */
+    public static int nextInt(Random random, int origin, int bound) {
+        if (origin >= bound)
+            throw new IllegalArgumentException("Origin must be less than bound.");
+        return origin + random.nextInt(bound - origin);
+    }
+}
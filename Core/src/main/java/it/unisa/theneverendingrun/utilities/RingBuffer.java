@@ -0,0 +1,121 @@
+package it.unisa.theneverendingrun.utilities;
+
+import java.util.NoSuchElementException;
+
+/**
+ * An array-backed FIFO queue, meant for the entities that enter the game on the right and leave it on the left.
+ * Elements are appended at the back and evicted from the front in constant time, and are read by index from the
+ * front, so that iterating them does not allocate an iterator:
+ * <pre>
+ * for (int i = 0; i &lt; buffer.size(); i++)
+ *     buffer.get(i).draw(batch);
+ * </pre>
+ * The backing array doubles when it is full and is never shrunk.
+ *
+ * @param <T> the type of the elements
+ */
+public class RingBuffer<T> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private T[] items;
+
+    /**
+     * The index in {@code items} of the front element
+     */
+    private int head;
+
+    private int size;
+
+    public RingBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity the number of elements the buffer holds before growing
+     * @throws IllegalArgumentException if {@code capacity} is less than 1
+     */
+    @SuppressWarnings("unchecked")
+    public RingBuffer(int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Capacity must be greater or equal than 1.");
+        items = (T[]) new Object[capacity];
+    }
+
+    /**
+     * Appends an element at the back of the buffer
+     *
+     * @param item the element to append
+     */
+    public void add(T item) {
+        if (size == items.length)
+            grow();
+        items[(head + size) % items.length] = item;
+        size++;
+    }
+
+    /**
+     * Removes the front element of the buffer
+     *
+     * @return the removed element
+     * @throws NoSuchElementException if the buffer is empty
+     */
+    public T removeFirst() {
+        if (size == 0)
+            throw new NoSuchElementException();
+
+        var item = items[head];
+        items[head] = null;
+        head = (head + 1) % items.length;
+        size--;
+        return item;
+    }
+
+    /**
+     * @return the front element of the buffer
+     * @throws NoSuchElementException if the buffer is empty
+     */
+    public T first() {
+        if (size == 0)
+            throw new NoSuchElementException();
+        return items[head];
+    }
+
+    /**
+     * @param index the position of the element, counting from the front
+     * @return the element at {@code index}
+     * @throws IndexOutOfBoundsException if {@code index} is not in [0, size)
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("index " + index + ", size " + size);
+        return items[(head + index) % items.length];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all the elements, keeping the backing array
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++)
+            items[(head + i) % items.length] = null;
+        head = 0;
+        size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void grow() {
+        var grown = (T[]) new Object[items.length * 2];
+        for (int i = 0; i < size; i++)
+            grown[i] = items[(head + i) % items.length];
+        items = grown;
+        head = 0;
+    }
+}
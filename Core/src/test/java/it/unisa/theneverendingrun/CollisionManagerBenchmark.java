@@ -0,0 +1,60 @@
+package it.unisa.theneverendingrun;
+
+import it.unisa.theneverendingrun.models.Spawnable;
+import it.unisa.theneverendingrun.models.hero.ForestHero;
+import it.unisa.theneverendingrun.utilities.RingBuffer;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.logging.Logger;
+
+/**
+ * Measures the cost per frame of the collision checks as the spawnables grow from 5 to 5000. It asserts nothing,
+ * since timings depend on the machine, and it is run by hand by removing its {@link Ignore}
+ */
+@Ignore("Benchmark, run by hand")
+public class CollisionManagerBenchmark {
+
+    private static final Logger LOGGER = Logger.getLogger(CollisionManagerBenchmark.class.getName());
+
+    private static final float SPAWNABLE_SIZE = 20;
+    private static final float SPACING = 30;
+
+    private static final int[] SPAWNABLE_COUNTS = {5, 50, 500, 5000};
+    private static final int FRAMES = 20000;
+
+    @Test
+    public void measureCostPerFrame() {
+        var hero = new ForestHero(ForestHero.readFrames(), 0, 0);
+        hero.setSize(SPAWNABLE_SIZE, SPAWNABLE_SIZE);
+
+        for (var count : SPAWNABLE_COUNTS) {
+            var spawnables = createSpawnables(count);
+            hero.setPosition(count / 2 * SPACING, 0);
+            hero.preUpdate();
+
+            // warm up
+            for (int frame = 0; frame < FRAMES; frame++)
+                CollisionManager.checkCollisions(hero, spawnables, SPAWNABLE_SIZE);
+
+            var start = System.nanoTime();
+            for (int frame = 0; frame < FRAMES; frame++)
+                CollisionManager.checkCollisions(hero, spawnables, SPAWNABLE_SIZE);
+            var cost = (double) (System.nanoTime() - start) / FRAMES;
+
+            LOGGER.info(String.format("%5d spawnables: %8.1f ns per frame", count, cost));
+        }
+    }
+
+    private static RingBuffer<Spawnable> createSpawnables(int count) {
+        var spawnables = new RingBuffer<Spawnable>();
+        for (int i = 0; i < count; i++) {
+            var spawnable = new CountingSpawnable();
+            spawnable.setSize(SPAWNABLE_SIZE, SPAWNABLE_SIZE);
+            spawnable.setPosition(i * SPACING, 0);
+            spawnable.preUpdate();
+            spawnables.add(spawnable);
+        }
+        return spawnables;
+    }
+}
@@ -0,0 +1,102 @@
+package it.unisa.theneverendingrun;
+
+import it.unisa.theneverendingrun.models.Spawnable;
+import it.unisa.theneverendingrun.models.hero.ForestHero;
+import it.unisa.theneverendingrun.models.hero.Hero;
+import it.unisa.theneverendingrun.utilities.RingBuffer;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CollisionManagerTest {
+
+    private static final float SPAWNABLE_SIZE = 20;
+    private static final float SPACING = 30;
+
+    private static final int[] SPAWNABLE_COUNTS = {5, 50, 500, 5000};
+
+    private Hero hero;
+
+    @Before
+    public void setUp() {
+        hero = new ForestHero(ForestHero.readFrames(), 0, 0);
+        hero.setSize(SPAWNABLE_SIZE, SPAWNABLE_SIZE);
+    }
+
+    private RingBuffer<Spawnable> createSpawnables(int count) {
+        var spawnables = new RingBuffer<Spawnable>();
+        for (int i = 0; i < count; i++) {
+            var spawnable = new CountingSpawnable();
+            spawnable.setSize(SPAWNABLE_SIZE, SPAWNABLE_SIZE);
+            spawnable.setPosition(i * SPACING, 0);
+            spawnable.preUpdate();
+            spawnables.add(spawnable);
+        }
+        return spawnables;
+    }
+
+    @Test
+    public void testOnlyNearSpawnablesAreChecked() {
+        var spawnables = createSpawnables(500);
+        hero.setPosition(250 * SPACING, 0);
+        hero.preUpdate();
+
+        CollisionManager.checkCollisions(hero, spawnables, SPAWNABLE_SIZE);
+
+        for (int i = 0; i < spawnables.size(); i++) {
+            var spawnable = (CountingSpawnable) spawnables.get(i);
+            var intersects = hero.intersects(spawnable);
+            var near = spawnable.getX() + spawnable.getWidth() >= hero.getX() - hero.getWidth()
+                    && spawnable.getX() <= hero.getX() + hero.getWidth();
+
+            Assert.assertEquals(intersects ? 1 : 0, spawnable.begun);
+            if (near)
+                Assert.assertEquals(intersects ? 0 : 1, spawnable.ended);
+            else
+                Assert.assertEquals(0, spawnable.begun + spawnable.ended);
+        }
+    }
+
+    @Test
+    public void testNoTunnelling() {
+        var spawnables = createSpawnables(1);
+        var spawnable = (CountingSpawnable) spawnables.first();
+        hero.setPosition(100, 0);
+        hero.preUpdate();
+
+        // in a single step the spawnable jumps from the right of the hero to its left
+        spawnable.setPosition(130, 0);
+        spawnable.preUpdate();
+        spawnable.setX(70);
+
+        CollisionManager.checkCollisions(hero, spawnables, SPAWNABLE_SIZE);
+
+        Assert.assertEquals(1, spawnable.begun);
+        Assert.assertEquals(0, spawnable.ended);
+        Assert.assertEquals(70 - SPAWNABLE_SIZE, hero.getX(), 0);
+    }
+
+    @Test
+    public void testChecksPerFrameAreFlat() {
+        var checks = new int[SPAWNABLE_COUNTS.length];
+
+        for (int c = 0; c < SPAWNABLE_COUNTS.length; c++) {
+            var count = SPAWNABLE_COUNTS[c];
+            var spawnables = createSpawnables(count);
+            hero.setPosition(count / 2 * SPACING, 0);
+            hero.preUpdate();
+
+            CollisionManager.checkCollisions(hero, spawnables, SPAWNABLE_SIZE);
+
+            // each narrow-phase check either begins or ends a collision
+            for (int i = 0; i < spawnables.size(); i++) {
+                var spawnable = (CountingSpawnable) spawnables.get(i);
+                checks[c] += spawnable.begun + spawnable.ended;
+            }
+        }
+
+        Assert.assertTrue(checks[0] > 0);
+        for (int c = 1; c < SPAWNABLE_COUNTS.length; c++)
+            Assert.assertEquals(checks[0], checks[c]);
+    }
+}
@@ -0,0 +1,33 @@
+package it.unisa.theneverendingrun;
+
+import it.unisa.theneverendingrun.models.Spawnable;
+import it.unisa.theneverendingrun.models.SpawnableTypes;
+import it.unisa.theneverendingrun.models.hero.Hero;
+
+/**
+ * A spawnable counting its collisions
+ */
+class CountingSpawnable extends Spawnable {
+
+    int begun;
+    int ended;
+
+    @Override
+    public SpawnableTypes getType() {
+        return SpawnableTypes.Jumpable;
+    }
+
+    @Override
+    public void beginCollision(Hero hero) {
+        begun++;
+    }
+
+    @Override
+    public void endCollision(Hero hero) {
+        ended++;
+    }
+
+    @Override
+    public void reset() {
+    }
+}
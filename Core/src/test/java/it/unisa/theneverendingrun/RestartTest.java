@@ -0,0 +1,120 @@
+package it.unisa.theneverendingrun;
+
+import it.unisa.theneverendingrun.metersManager.MetersManagerFactory;
+import it.unisa.theneverendingrun.models.Spawnable;
+import it.unisa.theneverendingrun.models.SpawnableTypes;
+import it.unisa.theneverendingrun.models.World;
+import it.unisa.theneverendingrun.models.hero.ForestHero;
+import it.unisa.theneverendingrun.obstaclesManager.SpawnableManager;
+import it.unisa.theneverendingrun.services.ForestFactory;
+import it.unisa.theneverendingrun.utilities.RingBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.logging.Logger;
+
+public class RestartTest {
+
+    private static final Logger LOGGER = Logger.getLogger(RestartTest.class.getName());
+
+    private static final World WORLD = new World(1536, 777);
+
+    private static final int RESTARTS = 1000;
+
+    /**
+     * The number of updates of each run before the hero dies
+     */
+    private static final int RUN_STEPS = 50;
+
+    /**
+     * The ticks after which a replayed run is stopped, and the ticks between two jumps of its hero
+     */
+    private static final int MAX_TICKS = 60 * 30;
+    private static final int JUMP_TICKS = 40;
+
+    @Test
+    public void testRestarts() {
+        var factory = new ForestFactory(WORLD, ForestHero.readFrames());
+        var background = factory.createBackground();
+        var hero = factory.createHero();
+        var metersManagerFactory = new MetersManagerFactory();
+        var spawnableManager = new SpawnableManager(factory);
+        var spawnables = new RingBuffer<Spawnable>();
+
+        var spawned = 0;
+        long restartNanos = 0;
+        for (int i = 0; i < RESTARTS; i++) {
+            for (int step = 0; step < RUN_STEPS; step++) {
+                background.scroll();
+                metersManagerFactory.computeMeters();
+                hero.updateDelta(0.016f);
+                hero.setDx(metersManagerFactory.getSpeed());
+                hero.move();
+
+                var spawnable = spawnableManager.generateNewObstacle();
+                if (spawnable != null) {
+                    spawnables.add(spawnable);
+                    spawned++;
+                }
+            }
+            hero.getMoveState().onJump();
+            hero.move();
+            hero.die();
+            Assert.assertTrue(hero.isDead());
+
+            var start = System.nanoTime();
+            hero.reset();
+            background.reset();
+            metersManagerFactory.reset();
+            spawnableManager.reset(spawnables);
+            restartNanos += System.nanoTime() - start;
+
+            Assert.assertFalse(hero.isDead());
+            Assert.assertFalse(hero.isJumping());
+            Assert.assertEquals(hero.getGroundX(), hero.getX(), 0);
+            Assert.assertEquals(hero.getGroundY(), hero.getY(), 0);
+            Assert.assertEquals(0, metersManagerFactory.getMeters());
+            Assert.assertEquals(0, metersManagerFactory.getScore());
+            Assert.assertEquals(metersManagerFactory.getInitialSpeed(), metersManagerFactory.getSpeed(), 0);
+        }
+
+        // the spawnables of each run are freed by its restart and obtained again by the next runs
+        Assert.assertTrue(spawned > 0);
+        var poolHits = 0;
+        var poolMisses = 0;
+        for (var type : SpawnableTypes.values()) {
+            poolHits += spawnableManager.getPool(type).getHits();
+            poolMisses += spawnableManager.getPool(type).getMisses();
+        }
+        Assert.assertEquals(spawned, poolHits + poolMisses);
+        Assert.assertTrue(poolHits > 0);
+
+        LOGGER.info("Average restart: " + restartNanos / RESTARTS + "ns, " + spawned + " spawnables, "
+                + poolMisses + " created");
+    }
+
+    @Test
+    public void testRestartedRunIsReproduced() {
+        var frames = ForestHero.readFrames();
+        var reused = new Simulation(WORLD, frames, new Random());
+
+        // the spawnables the reused simulation takes from its pools were created by the runs before
+        for (long seed = 0; seed < 8; seed++)
+            Assert.assertEquals(play(new Simulation(WORLD, frames, new Random()), seed), play(reused, seed));
+    }
+
+    /**
+     * Plays a run where the hero runs right and jumps at regular intervals
+     *
+     * @return the hash of the final state of the run
+     */
+    private static long play(Simulation simulation, long seed) {
+        simulation.restart(seed);
+        while (!simulation.isOver() && simulation.getTicks() < MAX_TICKS) {
+            var jump = (simulation.getTicks() + 1) % JUMP_TICKS == 0 ? HeroInput.JUMP : 0;
+            simulation.tick(1f / 60, HeroInput.RIGHT | jump);
+        }
+        return simulation.getStateHash();
+    }
+}
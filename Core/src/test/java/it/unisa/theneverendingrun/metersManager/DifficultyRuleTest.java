@@ -1,15 +1,12 @@
 package it.unisa.theneverendingrun.metersManager;
 
-import de.tomgrill.gdxtesting.GdxTestRunner;
 import org.junit.Assert;
 import org.junit.Test;
-import org.junit.runner.RunWith;
 
 import java.util.Random;
 
 
-@RunWith(GdxTestRunner.class)
-public class DifficultyMeterListenerTest {
+public class DifficultyRuleTest {
     private MetersManagerFactory factory = new MetersManagerFactory();
 
     @Test
@@ -18,7 +15,7 @@ public class DifficultyMeterListenerTest {
 
         for (int i = 0; i < steps; i++) {
             factory.computeMeters();
-            Assert.assertEquals((int) (factory.getMeters() / factory.getMetersDelta()) + factory.getDifficultyFactor(), factory.getDifficulty());
+            Assert.assertEquals((int) (factory.getDifficultyFactor() * factory.getMeters() / factory.getMetersDelta()) + factory.getInitialDifficulty(), factory.getDifficulty());
         }
     }
 }
@@ -1,13 +1,10 @@
 package it.unisa.theneverendingrun.metersManager;
 
-import de.tomgrill.gdxtesting.GdxTestRunner;
 import org.junit.Assert;
 import org.junit.Test;
-import org.junit.runner.RunWith;
 
 import java.util.Random;
 
-@RunWith(GdxTestRunner.class)
 public class MeterEditorTest {
 
     private MetersManagerFactory factory = new MetersManagerFactory();
@@ -23,7 +20,7 @@ public class MeterEditorTest {
 
         for (int i = 1; i <= steps; i++) {
             var previousMetersCounter = factory.getMeters();
-            MeterEditor.compute();
+            factory.computeMeters();
             var currentMetersCounter = factory.getMeters();
 
             if (i % MeterEditor.getMetersFactor() == 0) {
@@ -33,4 +30,16 @@ public class MeterEditorTest {
             }
         }
     }
+
+    @Test
+    public void testIndependentGames() {
+        var other = new MetersManagerFactory();
+
+        for (int i = 0; i < MeterEditor.getMetersFactor() * 10; i++)
+            factory.computeMeters();
+
+        Assert.assertEquals(10, factory.getMeters());
+        Assert.assertEquals(0, other.getMeters());
+        Assert.assertEquals(other.getInitialSpeed(), other.getSpeed(), 0);
+    }
 }
\ No newline at end of file
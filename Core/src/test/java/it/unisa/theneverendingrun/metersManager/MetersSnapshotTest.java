@@ -0,0 +1,68 @@
+package it.unisa.theneverendingrun.metersManager;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class MetersSnapshotTest {
+
+    private MetersManagerFactory factory = new MetersManagerFactory();
+
+    @Test
+    public void testValues() {
+        var steps = new Random().nextInt(10000);
+
+        for (int i = 0; i < steps; i++) {
+            factory.computeMeters();
+            var snapshot = factory.getSnapshot();
+            Assert.assertEquals(factory.getMeters(), snapshot.getMeters());
+            Assert.assertEquals(factory.getScore(), snapshot.getScore());
+            Assert.assertEquals(factory.getDifficulty(), snapshot.getDifficulty());
+            Assert.assertEquals(factory.getSpeed(), snapshot.getSpeed(), 0);
+            Assert.assertEquals(factory.getSpawnProbability(), snapshot.getSpawnProbability());
+        }
+    }
+
+    @Test
+    public void testTakenOncePerMeter() {
+        var snapshot = factory.getSnapshot();
+        for (int i = 1; i < MeterEditor.getMetersFactor(); i++) {
+            factory.computeMeters();
+            Assert.assertSame(snapshot, factory.getSnapshot());
+        }
+
+        factory.computeMeters();
+        var next = factory.getSnapshot();
+        Assert.assertNotSame(snapshot, next);
+        Assert.assertEquals(0, snapshot.getMeters());
+        Assert.assertEquals(1, next.getMeters());
+    }
+
+    @Test
+    public void testReset() {
+        for (int i = 0; i < MeterEditor.getMetersFactor() * 2000; i++)
+            factory.computeMeters();
+        Assert.assertEquals(10, factory.getSnapshot().getDifficulty());
+
+        factory.reset();
+        var snapshot = factory.getSnapshot();
+        Assert.assertEquals(0, snapshot.getMeters());
+        Assert.assertEquals(factory.getInitialSpeed(), snapshot.getSpeed(), 0);
+        Assert.assertEquals(factory.getInitialSpawnProbability(), snapshot.getSpawnProbability());
+    }
+
+    @Test
+    public void testLevelMax() {
+        for (int i = 0; i < MeterEditor.getMetersFactor() * 1800; i++)
+            factory.computeMeters();
+        var speed = factory.getSpeed();
+        var spawnProbability = factory.getSpawnProbability();
+
+        for (int i = 0; i < MeterEditor.getMetersFactor() * 600; i++)
+            factory.computeMeters();
+        Assert.assertEquals(12, factory.getDifficulty());
+        Assert.assertEquals(speed, factory.getSpeed(), 0);
+        Assert.assertEquals(spawnProbability, factory.getSpawnProbability());
+    }
+}
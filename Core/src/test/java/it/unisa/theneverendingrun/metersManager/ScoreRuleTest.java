@@ -1,21 +1,18 @@
 package it.unisa.theneverendingrun.metersManager;
 
 
-import de.tomgrill.gdxtesting.GdxTestRunner;
 import org.junit.Assert;
 import org.junit.Test;
-import org.junit.runner.RunWith;
 
 import java.util.Random;
 
-@RunWith(GdxTestRunner.class)
-public class ScoreMetersListenerTest {
+public class ScoreRuleTest {
 
     private MetersManagerFactory factory = new MetersManagerFactory();
 
     @Test
     public void testInitialise() {
-        Assert.assertEquals(ScoreMetersListener.getInitialScore(), factory.getScore());
+        Assert.assertEquals(ScoreRule.getInitialScore(), factory.getScore());
     }
 
     @Test
@@ -24,7 +21,7 @@ public class ScoreMetersListenerTest {
 
         for (int i = 0; i < steps; i++) {
             factory.computeMeters();
-            Assert.assertEquals(ScoreMetersListener.getScoreFactor() * factory.getMeters(), factory.getScore());
+            Assert.assertEquals(ScoreRule.getScoreFactor() * factory.getMeters(), factory.getScore());
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,73 @@
+package it.unisa.theneverendingrun.metersManager;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SignalTest {
+
+    private int levelComputations;
+    private int speedComputations;
+
+    private final IntSignal meters = new IntSignal(0);
+    private final IntSignal level = new IntSignal(meters, value -> {
+        levelComputations++;
+        return value / 10;
+    });
+    private final FloatSignal speed = new FloatSignal(level, value -> {
+        speedComputations++;
+        return 1 + value / 2f;
+    });
+
+    @Test
+    public void testComputedWhenFirstRead() {
+        Assert.assertEquals(0, levelComputations);
+        Assert.assertEquals(1, speed.get(), 0);
+        Assert.assertEquals(1, levelComputations);
+        Assert.assertEquals(1, speedComputations);
+    }
+
+    @Test
+    public void testMemoised() {
+        speed.get();
+        speed.get();
+        level.get();
+        Assert.assertEquals(1, levelComputations);
+        Assert.assertEquals(1, speedComputations);
+
+        meters.set(0);
+        speed.get();
+        Assert.assertEquals(1, levelComputations);
+        Assert.assertEquals(1, speedComputations);
+    }
+
+    @Test
+    public void testRecomputedOnlyIfInputChanged() {
+        speed.get();
+
+        meters.set(5);
+        Assert.assertEquals(1, speed.get(), 0);
+        Assert.assertEquals(2, levelComputations);
+        Assert.assertEquals(1, speedComputations);
+
+        meters.set(12);
+        Assert.assertEquals(1.5f, speed.get(), 0);
+        Assert.assertEquals(3, levelComputations);
+        Assert.assertEquals(2, speedComputations);
+    }
+
+    @Test
+    public void testLazy() {
+        for (int i = 1; i <= 100; i++)
+            meters.set(i);
+
+        Assert.assertEquals(0, levelComputations);
+        Assert.assertEquals(6, speed.get(), 0);
+        Assert.assertEquals(1, levelComputations);
+        Assert.assertEquals(1, speedComputations);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testDerivedNotSet() {
+        level.set(1);
+    }
+}
@@ -1,13 +1,10 @@
 package it.unisa.theneverendingrun.metersManager;
 
-import de.tomgrill.gdxtesting.GdxTestRunner;
 import org.junit.Test;
-import org.junit.runner.RunWith;
 
 import java.util.Random;
 
-@RunWith(GdxTestRunner.class)
-public class SpeedDifficultyListenerTest {
+public class SpeedRuleTest {
     private MetersManagerFactory factory = new MetersManagerFactory();
 
     @Test
@@ -0,0 +1,79 @@
+package it.unisa.theneverendingrun.models.enemy;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EnemyEventBusTest {
+
+    private static final EnemyEventType TYPE = EnemyEventType.ENEMY_FIGHT_STATE_CHANGED;
+
+    private final EnemyEventBus bus = new EnemyEventBus();
+
+    private int updates;
+
+    @Test
+    public void testDeferred() {
+        bus.subscribe(TYPE, (eventType, enemy) -> updates++);
+
+        for (int i = 0; i < 100; i++)
+            bus.post(TYPE, null);
+        Assert.assertEquals(0, updates);
+        Assert.assertEquals(100, bus.getQueued());
+
+        bus.dispatch();
+        Assert.assertEquals(100, updates);
+        Assert.assertEquals(0, bus.getQueued());
+        Assert.assertEquals(100, bus.getDispatched(TYPE));
+
+        bus.dispatch();
+        Assert.assertEquals(100, updates);
+        Assert.assertEquals(100, bus.getDispatched(TYPE));
+    }
+
+    @Test
+    public void testAllListeners() {
+        for (int i = 0; i < 10; i++)
+            bus.subscribe(TYPE, (eventType, enemy) -> updates++);
+
+        bus.post(TYPE, null);
+        bus.post(TYPE, null);
+        bus.dispatch();
+        Assert.assertEquals(20, updates);
+        Assert.assertEquals(2, bus.getDispatched(TYPE));
+    }
+
+    @Test
+    public void testUnsubscribe() {
+        EnemyFightStateListener first = (eventType, enemy) -> updates++;
+        EnemyFightStateListener second = (eventType, enemy) -> updates += 10;
+        bus.subscribe(TYPE, first);
+        bus.subscribe(TYPE, second);
+
+        bus.unsubscribe(TYPE, first);
+        bus.unsubscribe(TYPE, first);
+        bus.post(TYPE, null);
+        bus.dispatch();
+        Assert.assertEquals(10, updates);
+    }
+
+    @Test
+    public void testPostedWhileDispatching() {
+        bus.subscribe(TYPE, (eventType, enemy) -> {
+            if (++updates < 3)
+                bus.post(TYPE, null);
+        });
+
+        bus.post(TYPE, null);
+        bus.dispatch();
+        Assert.assertEquals(3, updates);
+        Assert.assertEquals(0, bus.getQueued());
+        Assert.assertEquals(3, bus.getDispatched(TYPE));
+    }
+
+    @Test
+    public void testWithoutListeners() {
+        bus.post(TYPE, null);
+        bus.dispatch();
+        Assert.assertEquals(1, bus.getDispatched(TYPE));
+    }
+}
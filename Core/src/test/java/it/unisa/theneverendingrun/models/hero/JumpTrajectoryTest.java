@@ -0,0 +1,38 @@
+package it.unisa.theneverendingrun.models.hero;
+
+import it.unisa.theneverendingrun.utilities.MathUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JumpTrajectoryTest {
+
+    private static final int DURATION = 35;
+    private static final double MAX_ELEVATION = 3 * 87f;
+
+    @Test
+    public void testStepOffsets() {
+        var trajectory = new JumpTrajectory(MAX_ELEVATION, DURATION);
+        var coefficient = MAX_ELEVATION / MathUtils.sumSquares(DURATION);
+
+        // the steps past the table are computed as the ones in it
+        for (int step = 0; step < 10 * DURATION; step++)
+            Assert.assertEquals((step * step) * coefficient, trajectory.getStepOffset(step), 0);
+    }
+
+    @Test
+    public void testMaxElevation() {
+        var trajectory = new JumpTrajectory(MAX_ELEVATION, DURATION);
+
+        // the steps up to the top of the jump add up to its height
+        double elevation = 0;
+        for (int step = DURATION; step >= 1; step--)
+            elevation += trajectory.getStepOffset(step);
+        Assert.assertEquals(MAX_ELEVATION, trajectory.getMaxElevation(), 0);
+        Assert.assertEquals(MAX_ELEVATION, elevation, MathUtils.DELTA);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidDuration() {
+        new JumpTrajectory(MAX_ELEVATION, 0);
+    }
+}
@@ -0,0 +1,52 @@
+package it.unisa.theneverendingrun.obstaclesManager;
+
+import it.unisa.theneverendingrun.models.SpawnableTypes;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class SpawnRulesTest {
+
+    private static final float WORLD_WIDTH = 1000;
+    private static final float MINIMUM_DISTANCE = 150;
+
+    private final Random random = new Random(42);
+
+    @Test
+    public void testEmptyWorld() {
+        for (int i = 0; i < 100; i++)
+            Assert.assertNotNull(SpawnRules.nextType(WORLD_WIDTH, null, 0, MINIMUM_DISTANCE, 50, random));
+    }
+
+    @Test
+    public void testLastNotVisible() {
+        for (int i = 0; i < 100; i++)
+            Assert.assertNotNull(SpawnRules.nextType(WORLD_WIDTH, SpawnableTypes.Slidable, 0, MINIMUM_DISTANCE, 50, random));
+    }
+
+    @Test
+    public void testLastNotEntered() {
+        for (var type : SpawnableTypes.values())
+            Assert.assertNull(SpawnRules.nextType(WORLD_WIDTH, type, WORLD_WIDTH + 1, MINIMUM_DISTANCE, 1, random));
+    }
+
+    @Test
+    public void testNothingRightAfterSlidable() {
+        for (int i = 0; i < 100; i++) {
+            Assert.assertNull(SpawnRules.nextType(WORLD_WIDTH, SpawnableTypes.Slidable, WORLD_WIDTH, MINIMUM_DISTANCE, 1, random));
+            Assert.assertNull(SpawnRules.nextType(WORLD_WIDTH, SpawnableTypes.JumpableSlidable, WORLD_WIDTH, MINIMUM_DISTANCE, 1, random));
+        }
+    }
+
+    @Test
+    public void testMinimumDistance() {
+        var lastRight = WORLD_WIDTH - MINIMUM_DISTANCE + 1;
+        for (int i = 0; i < 100; i++)
+            Assert.assertNull(SpawnRules.nextType(WORLD_WIDTH, SpawnableTypes.Golem, lastRight, MINIMUM_DISTANCE, 1, random));
+
+        lastRight = WORLD_WIDTH - MINIMUM_DISTANCE;
+        for (int i = 0; i < 100; i++)
+            Assert.assertNotNull(SpawnRules.nextType(WORLD_WIDTH, SpawnableTypes.Golem, lastRight, MINIMUM_DISTANCE, 1, random));
+    }
+}
@@ -0,0 +1,51 @@
+package it.unisa.theneverendingrun.simulation;
+
+import it.unisa.theneverendingrun.DeathCause;
+import it.unisa.theneverendingrun.models.SpawnableTypes;
+import it.unisa.theneverendingrun.models.World;
+import it.unisa.theneverendingrun.models.hero.ForestHero;
+import it.unisa.theneverendingrun.models.hero.HeroFrames;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BatchSimulatorTest {
+
+    private static final World WORLD = new World(1536, 777);
+    private static final int GAMES = 16;
+    private static final long SEED = 42;
+    private static final int MAX_TICKS = 60 * 30;
+
+    private static final HeroFrames HERO_FRAMES = ForestHero.readFrames();
+
+    @Test
+    public void testSameStatisticsWhateverTheThreads() throws InterruptedException {
+        var policy = new BotInputPolicy(20);
+
+        var single = new BatchSimulator(WORLD, HERO_FRAMES, 1);
+        var sequential = single.run(GAMES, SEED, MAX_TICKS, policy);
+
+        var multiple = new BatchSimulator(WORLD, HERO_FRAMES, 4);
+        var parallel = multiple.run(GAMES, SEED, MAX_TICKS, policy);
+
+        Assert.assertEquals(GAMES, sequential.getRuns());
+        Assert.assertEquals(sequential.toString(), parallel.toString());
+
+        long deaths = 0;
+        for (var cause : DeathCause.values())
+            deaths += parallel.getDeaths(cause);
+        Assert.assertEquals(GAMES, deaths);
+    }
+
+    @Test
+    public void testIdleHeroDies() throws InterruptedException {
+        var simulator = new BatchSimulator(WORLD, HERO_FRAMES, 2);
+        var statistics = simulator.run(GAMES, SEED, MAX_TICKS, new ScriptedInputPolicy(0));
+
+        Assert.assertEquals(0, statistics.getDeaths(DeathCause.TIME_LIMIT));
+        Assert.assertEquals(GAMES, statistics.getDeaths(DeathCause.OFF_SCREEN) + statistics.getDeaths(DeathCause.ENEMY));
+        long spawned = 0;
+        for (var type : SpawnableTypes.values())
+            spawned += statistics.getSpawned(type);
+        Assert.assertTrue(spawned > 0);
+    }
+}
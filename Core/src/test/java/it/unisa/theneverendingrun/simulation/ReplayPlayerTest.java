@@ -0,0 +1,54 @@
+package it.unisa.theneverendingrun.simulation;
+
+import it.unisa.theneverendingrun.Simulation;
+import it.unisa.theneverendingrun.models.World;
+import it.unisa.theneverendingrun.models.hero.ForestHero;
+import it.unisa.theneverendingrun.streamManager.ReplayReader;
+import it.unisa.theneverendingrun.streamManager.ReplayWriter;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.Random;
+
+public class ReplayPlayerTest {
+
+    private static final World WORLD = new World(1536, 777);
+    private static final int TICK_RATE = 60;
+    private static final int MAX_TICKS = TICK_RATE * 60;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testReproducedRun() throws Exception {
+        var policy = new BotInputPolicy(20);
+        var file = folder.getRoot().toPath().resolve("run.replay");
+        var writer = new ReplayWriter(file, WORLD.getWidth(), WORLD.getHeight(), TICK_RATE, 1, 1 << 16);
+
+        var recording = new Simulation(WORLD, ForestHero.readFrames(), new Random());
+        recording.restart(1234);
+        writer.start(1234);
+        while (!recording.isOver() && recording.getTicks() < MAX_TICKS) {
+            var keys = policy.keys(recording);
+            writer.record(keys, recording);
+            recording.tick(1f / TICK_RATE, keys);
+        }
+        writer.finish(recording);
+        writer.close();
+        var replay = ReplayReader.open(file).readReplay();
+
+        // a simulation that played other runs before has different spawnables in its pools
+        var playing = new Simulation(WORLD, ForestHero.readFrames(), new Random());
+        for (int i = 0; i < 3; i++) {
+            playing.restart(i);
+            while (!playing.isOver() && playing.getTicks() < MAX_TICKS)
+                playing.tick(1f / TICK_RATE, policy.keys(playing));
+        }
+
+        Assert.assertTrue(ReplayPlayer.play(playing, replay));
+        Assert.assertEquals(recording.getMeters(), playing.getMeters());
+        Assert.assertEquals(recording.getDeathCause(), playing.getDeathCause());
+    }
+}
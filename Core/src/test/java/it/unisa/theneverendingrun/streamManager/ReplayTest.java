@@ -0,0 +1,169 @@
+package it.unisa.theneverendingrun.streamManager;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class ReplayTest {
+
+    private static final int TICK_RATE = 60;
+    private static final int KEYFRAME_SECONDS = 10;
+    private static final int BUFFER_CAPACITY = 1 << 16;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Keeps the saved bytes in memory and loads them back
+     */
+    private static class MemoryStreamFactory implements StreamFactory {
+
+        private ByteArrayOutputStream saved = new ByteArrayOutputStream();
+
+        @Override
+        public InputStream createInputStream() {
+            return new ByteArrayInputStream(saved.toByteArray());
+        }
+
+        @Override
+        public OutputStream createOutputStream() {
+            saved = new ByteArrayOutputStream();
+            return saved;
+        }
+    }
+
+    /**
+     * A run whose meters, score and hash are given by its ticks
+     */
+    private static class TickState implements ReplayState {
+
+        private int tick;
+
+        @Override
+        public int getMeters() {
+            return tick * 2;
+        }
+
+        @Override
+        public int getScore() {
+            return tick * 3;
+        }
+
+        @Override
+        public long getStateHash() {
+            return tick * 0x9E37_79B9_7F4A_7C15L;
+        }
+    }
+
+    /**
+     * The keys held at a tick of the recorded runs, changing every few ticks
+     */
+    private static int keys(int tick) {
+        return tick / 7 % 16;
+    }
+
+    private Path record(int ticks) {
+        return record(ticks, BUFFER_CAPACITY);
+    }
+
+    /**
+     * Records the ticks as fast as possible, so the buffer must hold them all if the writer thread does not run
+     */
+    private Path record(int ticks, int bufferCapacity) {
+        var file = folder.getRoot().toPath().resolve("run.replay");
+        var writer = new ReplayWriter(file, 1536, 777, TICK_RATE, KEYFRAME_SECONDS, bufferCapacity);
+        var state = new TickState();
+
+        // a run that did not end is dropped
+        writer.start(42);
+        writer.record(3, state);
+
+        writer.start(-7);
+        for (state.tick = 0; state.tick < ticks; state.tick++)
+            writer.record(keys(state.tick), state);
+        writer.finish(state);
+        writer.close();
+
+        return file;
+    }
+
+    @Test
+    public void testWriteAndLoad() {
+        var file = record(10_000);
+        Assert.assertFalse(Files.exists(file.resolveSibling("run.replay.part")));
+
+        var loaded = new StreamManager(new FileStreamFactory(file.toString())).loadReplay();
+
+        Assert.assertNotNull(loaded);
+        Assert.assertEquals(1536, loaded.getWorldWidth());
+        Assert.assertEquals(777, loaded.getWorldHeight());
+        Assert.assertEquals(TICK_RATE, loaded.getTickRate());
+        Assert.assertEquals(-7, loaded.getSeed());
+        Assert.assertEquals(10_000, loaded.getTicks());
+        for (int tick = 0; tick < 10_000; tick++)
+            Assert.assertEquals(keys(tick), loaded.getKeys(tick));
+        Assert.assertEquals(10_000 * 0x9E37_79B9_7F4A_7C15L, loaded.getFinalStateHash());
+    }
+
+    @Test
+    public void testSeek() throws Exception {
+        var reader = ReplayReader.open(record(10_000));
+        var keyframeTicks = KEYFRAME_SECONDS * TICK_RATE;
+
+        Assert.assertEquals((10_000 + keyframeTicks - 1) / keyframeTicks, reader.getKeyframes());
+        for (var tick : new int[]{9_999, 0, keyframeTicks - 1, keyframeTicks, keyframeTicks + 1, 5_000}) {
+            var keyframe = reader.seek(tick);
+
+            var keyframeTick = tick - tick % keyframeTicks;
+            Assert.assertEquals(keyframeTick, keyframe.getTick());
+            Assert.assertEquals(keyframeTick * 2, keyframe.getMeters());
+            Assert.assertEquals(keyframeTick * 3, keyframe.getScore());
+            Assert.assertEquals(keyframeTick * 0x9E37_79B9_7F4A_7C15L, keyframe.getStateHash());
+
+            Assert.assertEquals(tick, reader.getTick());
+            for (int next = tick; next < Math.min(tick + 2 * keyframeTicks, 10_000); next++)
+                Assert.assertEquals(keys(next), reader.nextKeys());
+        }
+
+        reader.seek(10_000);
+        Assert.assertFalse(reader.hasNextKeys());
+    }
+
+    @Test
+    public void testCompact() throws Exception {
+        var ticks = TICK_RATE * 60 * 60;
+        var file = record(ticks, 1 << 20);
+
+        // an hour of keys changing every 7 ticks takes less than a byte every 5 ticks
+        Assert.assertTrue(Files.size(file) + " bytes", Files.size(file) < ticks / 5);
+    }
+
+    @Test
+    public void testLoadNotReplay() {
+        var streamFactory = new MemoryStreamFactory();
+        var streamManager = new StreamManager(streamFactory);
+        streamManager.saveBestScores(new BestScores(10, 20));
+
+        Assert.assertNull(streamManager.loadReplay());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testKeysNotFittingAByte() {
+        var writer = new ReplayWriter(folder.getRoot().toPath().resolve("run.replay"), 1536, 777, TICK_RATE,
+                KEYFRAME_SECONDS, BUFFER_CAPACITY);
+        try {
+            writer.start(0);
+            writer.record(256, new TickState());
+        } finally {
+            writer.close();
+        }
+    }
+}
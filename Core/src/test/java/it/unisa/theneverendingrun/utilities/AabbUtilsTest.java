@@ -0,0 +1,139 @@
+package it.unisa.theneverendingrun.utilities;
+
+import it.unisa.theneverendingrun.models.Sprite;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class AabbUtilsTest {
+
+    private static final int CASES = 100000;
+
+    private final Random random = new Random();
+
+    private static Sprite box(float x, float y, float width, float height) {
+        var box = new Sprite(width, height);
+        box.setPosition(x, y);
+        return box;
+    }
+
+    /**
+     * The intersection of two boxes as the collision boxes computed it: the span between the greater minimum and the
+     * lower maximum on each axis, negative on an axis the boxes do not overlap on
+     */
+    private static Sprite intersection(Sprite a, Sprite b) {
+        var minX = Math.max(a.getX(), b.getX());
+        var minY = Math.max(a.getY(), b.getY());
+        var maxX = Math.min(a.getX() + a.getWidth(), b.getX() + b.getWidth());
+        var maxY = Math.min(a.getY() + a.getHeight(), b.getY() + b.getHeight());
+        return box(minX, minY, maxX - minX, maxY - minY);
+    }
+
+    /**
+     * The side detection AbstractObstacle used before AabbUtils, probing the hero sides with collision boxes
+     */
+    private static int referenceContactSide(Sprite heroCollisionBox, Sprite obstacle) {
+        Sprite[] boxes = new Sprite[4];
+        boxes[0] = box(heroCollisionBox.getX() - 1, heroCollisionBox.getY(), 1, heroCollisionBox.getHeight());
+        boxes[1] = box(heroCollisionBox.getX(), heroCollisionBox.getY() - 1, heroCollisionBox.getWidth(), 1);
+        boxes[2] = box(heroCollisionBox.getX() + heroCollisionBox.getWidth(), heroCollisionBox.getY(), 1, heroCollisionBox.getHeight());
+        boxes[3] = box(heroCollisionBox.getX(), heroCollisionBox.getY() + heroCollisionBox.getHeight(), heroCollisionBox.getWidth(), 1);
+
+        double greatestArea = 0;
+        int greatest = -1;
+
+        for (int i = 0; i < boxes.length; i++) {
+            var intersection = intersection(obstacle, boxes[i]);
+
+            var area = intersection.getWidth() * intersection.getHeight();
+            if (area > greatestArea) {
+                greatestArea = area;
+                greatest = i;
+            }
+        }
+
+        return greatest;
+    }
+
+    /**
+     * @return a random box intersecting {@code hero}
+     */
+    private Sprite randomIntersectingBox(Sprite hero) {
+        var width = 1 + random.nextInt(200);
+        var height = 1 + random.nextInt(200);
+        var x = hero.getX() - width + 1 + random.nextInt((int) hero.getWidth() + width - 1);
+        var y = hero.getY() - height + 1 + random.nextInt((int) hero.getHeight() + height - 1);
+        return box(x, y, width, height);
+    }
+
+    @Test
+    public void testContactSideMatchesProbes() {
+        for (int i = 0; i < CASES; i++) {
+            var hero = box(random.nextInt(1000), random.nextInt(1000), 1 + random.nextInt(100), 1 + random.nextInt(100));
+            var obstacle = randomIntersectingBox(hero);
+
+            var expected = referenceContactSide(hero, obstacle);
+            var actual = AabbUtils.contactSide(hero.getX(), hero.getY(), hero.getX(), hero.getY(), hero.getWidth(), hero.getHeight(),
+                    obstacle.getX(), obstacle.getY(), obstacle.getX(), obstacle.getY(), obstacle.getWidth(), obstacle.getHeight());
+
+            Assert.assertEquals(hero.getX() + " " + hero.getY() + " " + obstacle.getX() + " " + obstacle.getY(),
+                    expected, actual);
+        }
+    }
+
+    @Test
+    public void testOverlapMatchesIntersection() {
+        for (int i = 0; i < CASES; i++) {
+            var hero = box(random.nextInt(1000), random.nextInt(1000), 1 + random.nextInt(100), 1 + random.nextInt(100));
+            var obstacle = randomIntersectingBox(hero);
+            var intersection = intersection(hero, obstacle);
+
+            Assert.assertEquals(intersection.getWidth(),
+                    AabbUtils.overlap(hero.getX(), hero.getWidth(), obstacle.getX(), obstacle.getWidth()), MathUtils.DELTA);
+            Assert.assertEquals(intersection.getHeight(),
+                    AabbUtils.overlap(hero.getY(), hero.getHeight(), obstacle.getY(), obstacle.getHeight()), MathUtils.DELTA);
+        }
+    }
+
+    @Test
+    public void testContactSideFromPreviousPositions() {
+        // the hero lands on a wide and low obstacle
+        Assert.assertEquals(AabbUtils.BOTTOM, AabbUtils.contactSide(10, 22, 10, 18, 10, 10,
+                0, 0, 0, 0, 100, 20));
+        // a tall obstacle moves into the hero from the right
+        Assert.assertEquals(AabbUtils.LEFT, AabbUtils.contactSide(10, 0, 10, 0, 10, 10,
+                21, 0, 18, 0, 5, 100));
+        // the hero jumps into an obstacle above it
+        Assert.assertEquals(AabbUtils.TOP, AabbUtils.contactSide(10, 0, 10, 3, 10, 10,
+                0, 11, 0, 11, 100, 5));
+        // the hero was already inside the obstacle, so the probes decide
+        Assert.assertEquals(AabbUtils.contactSide(10, 5, 10, 10, 0, 0, 100, 8),
+                AabbUtils.contactSide(10, 5, 10, 5, 10, 10, 0, 0, 0, 0, 100, 8));
+    }
+
+    @Test
+    public void testSweptContactSide() {
+        // a thin obstacle moving left passes through the hero in one step
+        Assert.assertEquals(AabbUtils.LEFT, AabbUtils.sweptContactSide(10, 0, 10, 0, 10, 10,
+                25, 0, 0, 0, 2, 100));
+        // the hero falls through a thin obstacle
+        Assert.assertEquals(AabbUtils.BOTTOM, AabbUtils.sweptContactSide(10, 30, 10, -15, 10, 10,
+                0, 10, 0, 10, 100, 2));
+        // the hero jumps through a thin obstacle
+        Assert.assertEquals(AabbUtils.TOP, AabbUtils.sweptContactSide(10, 0, 10, 40, 10, 10,
+                0, 20, 0, 20, 100, 2));
+        // the obstacle passes below the hero
+        Assert.assertEquals(AabbUtils.NONE, AabbUtils.sweptContactSide(10, 20, 10, 20, 10, 10,
+                25, 0, 0, 0, 2, 10));
+        // the boxes were already overlapping
+        Assert.assertEquals(AabbUtils.NONE, AabbUtils.sweptContactSide(10, 0, 10, 0, 10, 10,
+                15, 0, -10, 0, 2, 10));
+    }
+
+    @Test
+    public void testNoContact() {
+        Assert.assertEquals(AabbUtils.NONE, AabbUtils.contactSide(0, 0, 10, 10, 50, 50, 10, 10));
+        Assert.assertEquals(0, AabbUtils.overlap(0, 10, 10, 10), 0);
+    }
+}
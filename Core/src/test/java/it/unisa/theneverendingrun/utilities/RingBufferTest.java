@@ -0,0 +1,73 @@
+package it.unisa.theneverendingrun.utilities;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class RingBufferTest {
+
+    @Test
+    public void testFifoOrder() {
+        var buffer = new RingBuffer<Integer>(2);
+        for (int i = 0; i < 5; i++)
+            buffer.add(i);
+
+        Assert.assertEquals(5, buffer.size());
+        for (int i = 0; i < 5; i++)
+            Assert.assertEquals(i, (int) buffer.get(i));
+        for (int i = 0; i < 5; i++)
+            Assert.assertEquals(i, (int) buffer.removeFirst());
+        Assert.assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    public void testWrapAround() {
+        var buffer = new RingBuffer<Integer>(4);
+        var expected = new ArrayDeque<Integer>();
+        var random = new Random();
+
+        for (int i = 0; i < 10000; i++) {
+            if (expected.isEmpty() || random.nextBoolean()) {
+                buffer.add(i);
+                expected.addLast(i);
+            } else {
+                Assert.assertEquals(expected.removeFirst(), buffer.removeFirst());
+            }
+
+            Assert.assertEquals(expected.size(), buffer.size());
+            if (!expected.isEmpty())
+                Assert.assertEquals(expected.peekFirst(), buffer.first());
+        }
+
+        var index = 0;
+        for (var item : expected)
+            Assert.assertEquals(item, buffer.get(index++));
+    }
+
+    @Test
+    public void testClear() {
+        var buffer = new RingBuffer<Integer>();
+        buffer.add(1);
+        buffer.add(2);
+        buffer.clear();
+
+        Assert.assertTrue(buffer.isEmpty());
+        buffer.add(3);
+        Assert.assertEquals(3, (int) buffer.first());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testRemoveFromEmpty() {
+        new RingBuffer<Integer>().removeFirst();
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        var buffer = new RingBuffer<Integer>();
+        buffer.add(1);
+        buffer.get(1);
+    }
+}
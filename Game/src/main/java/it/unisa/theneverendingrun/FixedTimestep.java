@@ -0,0 +1,86 @@
+package it.unisa.theneverendingrun;
+
+/**
+ * Splits the elapsed time into fixed simulation ticks.
+ * The time not yet simulated is kept in an accumulator, and the fraction of a tick it amounts to is the
+ * interpolation factor between the last two simulated states. After a hitch at most {@code maxCatchUpSteps}
+ * ticks are simulated at once and the rest of the backlog is dropped, so that a slow frame cannot make the
+ * following ones slower.
+ */
+class FixedTimestep {
+
+    /**
+     * The duration of a tick in seconds
+     */
+    private final float tick;
+
+    /**
+     * The maximum number of ticks simulated for a single update
+     */
+    private final int maxCatchUpSteps;
+
+    /**
+     * The elapsed time not simulated yet, in seconds
+     */
+    private float accumulator;
+
+    /**
+     * @param tickRate        the number of ticks per second
+     * @param maxCatchUpSteps the maximum number of ticks simulated for a single update
+     * @throws IllegalArgumentException if {@code tickRate} or {@code maxCatchUpSteps} are less than 1
+     */
+    FixedTimestep(int tickRate, int maxCatchUpSteps) {
+        if (tickRate < 1)
+            throw new IllegalArgumentException("TickRate must be greater or equal than 1.");
+        if (maxCatchUpSteps < 1)
+            throw new IllegalArgumentException("MaxCatchUpSteps must be greater or equal than 1.");
+
+        this.tick = 1f / tickRate;
+        this.maxCatchUpSteps = maxCatchUpSteps;
+    }
+
+    /**
+     * Accounts for the elapsed time
+     *
+     * @param delta the time elapsed since the previous call, in seconds
+     * @return the number of ticks to simulate
+     */
+    int advance(float delta) {
+        accumulator += delta;
+
+        int steps = 0;
+        while (accumulator >= tick && steps < maxCatchUpSteps) {
+            accumulator -= tick;
+            steps++;
+        }
+
+        if (accumulator >= tick)
+            accumulator %= tick;
+
+        return steps;
+    }
+
+    /**
+     * Computes how far the time is between the last simulated tick and the next one
+     *
+     * @param pending time elapsed and not yet passed to {@link #advance(float)}, in seconds
+     * @return the interpolation factor, in range [0, 1]
+     */
+    float getAlpha(float pending) {
+        return Math.min(1, (accumulator + pending) / tick);
+    }
+
+    /**
+     * @return the duration of a tick in seconds
+     */
+    float getTick() {
+        return tick;
+    }
+
+    /**
+     * Drops the time not simulated yet
+     */
+    void reset() {
+        accumulator = 0;
+    }
+}
@@ -2,21 +2,63 @@ package it.unisa.theneverendingrun;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
 import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 
 public class Fonts {
 
+    private static final String FONT_PATH = "ARCADE_R.ttf";
+
+    /**
+     * The size of the glyph pages, big enough for both fonts to fit in a single page
+     */
+    private static final int PAGE_SIZE = 512;
+
     public static BitmapFont scoreFont;
     public static BitmapFont meterFont;
 
+    /**
+     * The packer holding the glyph pages shared by all the fonts, null if the fonts are not loaded
+     */
+    private static PixmapPacker packer;
+
+    /**
+     * Generates the fonts, packing all their glyphs in the same pages.
+     * The fonts are generated only once: calling this method again reuses the loaded fonts
+     */
     public static void load() {
-        loadScoreFont();
-        loadMeterFont();
+        if (packer != null)
+            return;
+
+        packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, 2, false);
+
+        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal(FONT_PATH));
+        loadScoreFont(generator);
+        loadMeterFont(generator);
+        generator.dispose();
     }
 
-    private static void loadScoreFont() {
+    /**
+     * Disposes the fonts and their glyph pages
+     */
+    public static void dispose() {
+        if (packer == null)
+            return;
+
+        scoreFont.dispose();
+        meterFont.dispose();
+        // the fonts do not own the textures of the shared pages
+        for (var page : packer.getPages()) {
+            page.getTexture().dispose();
+            page.getPixmap().dispose();
+        }
+        packer = null;
+    }
+
+    private static void loadScoreFont(FreeTypeFontGenerator generator) {
         //Generate a font object for font.ttf at size 40px
         FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
         parameter.size = 24;
@@ -26,20 +68,17 @@ public class Fonts {
         parameter.shadowOffsetX = 2;
         parameter.shadowOffsetY = 2;
         parameter.shadowColor = Color.BLACK;
+        parameter.packer = packer;
 
         //The following settings allow the font to scale smoothly
         parameter.magFilter = Texture.TextureFilter.Linear;
         parameter.minFilter = Texture.TextureFilter.Linear;
 
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("ARCADE_R.ttf"));
-
         scoreFont = generator.generateFont(parameter);
         scoreFont.setUseIntegerPositions(false);
-
-        generator.dispose();
     }
 
-    private static void loadMeterFont() {
+    private static void loadMeterFont(FreeTypeFontGenerator generator) {
         //Generate a font object for font.ttf at size 40px
         FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
         parameter.size = 18;
@@ -49,17 +88,14 @@ public class Fonts {
         parameter.shadowOffsetX = 1;
         parameter.shadowOffsetY = 1;
         parameter.shadowColor = Color.BLACK;
+        parameter.packer = packer;
 
 
         //The following settings allow the font to scale smoothly
         parameter.magFilter = Texture.TextureFilter.Linear;
         parameter.minFilter = Texture.TextureFilter.Linear;
 
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("ARCADE_R.ttf"));
-
         meterFont = generator.generateFont(parameter);
         meterFont.setUseIntegerPositions(false);
-
-        generator.dispose();
     }
 }
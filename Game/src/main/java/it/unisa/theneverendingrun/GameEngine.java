@@ -5,192 +5,361 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.Scaling;
 import com.badlogic.gdx.utils.viewport.ScalingViewport;
-import it.unisa.theneverendingrun.metersManager.MetersManagerFactory;
-import it.unisa.theneverendingrun.models.Spawnable;
-import it.unisa.theneverendingrun.models.background.AbstractScrollingBackground;
-import it.unisa.theneverendingrun.models.enemy.AbstractEnemy;
-import it.unisa.theneverendingrun.models.hero.Hero;
-import it.unisa.theneverendingrun.obstaclesManager.SpawnableManager;
-import it.unisa.theneverendingrun.services.ForestFactory;
-import it.unisa.theneverendingrun.services.GameFactory;
+import it.unisa.theneverendingrun.config.PropertiesCache;
+import it.unisa.theneverendingrun.config.PropertiesConstants;
+import it.unisa.theneverendingrun.models.SpawnableTypes;
+import it.unisa.theneverendingrun.models.World;
+import it.unisa.theneverendingrun.models.hero.ForestHero;
+import it.unisa.theneverendingrun.services.ForestTextures;
+import it.unisa.theneverendingrun.services.assets.TextureCache;
 import it.unisa.theneverendingrun.streamManager.BestScores;
 import it.unisa.theneverendingrun.streamManager.FileStreamFactory;
+import it.unisa.theneverendingrun.streamManager.ReplayWriter;
 import it.unisa.theneverendingrun.streamManager.StreamManager;
 import org.mini2Dx.core.game.BasicGame;
 import org.mini2Dx.core.graphics.Graphics;
 
-import java.util.LinkedList;
+import java.nio.file.Paths;
+import java.util.Random;
+import java.util.logging.Logger;
 
-// TODO implements ScoreListener and MetersListener
 public class GameEngine extends BasicGame {
 
+    private static final Logger LOGGER = Logger.getLogger(GameEngine.class.getName());
+
     static final String GAME_IDENTIFIER = "it.unisa.theneverendingrun";
     private static final String FILENAME = "best_scores.dat";
 
+    /**
+     * The number of key bitmasks queued for the simulation before new ones are dropped
+     */
+    private static final int INPUT_QUEUE_CAPACITY = 64;
+
+    /**
+     * The bytes of replay records waiting for the replay writer thread, about nine minutes of ticks
+     */
+    private static final int REPLAY_BUFFER_CAPACITY = 1 << 16;
+
+    /**
+     * The longest time the game waits for the simulation thread to end its tick when it is closed
+     */
+    private static final long SIMULATION_STOP_TIMEOUT_MILLIS = 1000;
+
     private Stage stage;
 
     private HandlingInput input;
     private SpriteBatch spriteBatch;
-    private GameFactory gameFactory;
-    private Hero hero;
-    private AbstractScrollingBackground background;
 
-    private LinkedList<Spawnable> spawnableLinkedList;
-    private SpawnableManager spawnableManager;
+    /**
+     * The game drawn, simulated in a world as large as the screen when the game starts
+     */
+    private Simulation simulation;
 
-    private MetersManagerFactory metersManagerFactory;
+    /**
+     * The texture regions the sprites of the simulation are drawn with
+     */
+    private ForestTextures textures;
     private StreamManager streamManager;
+
+    /**
+     * The source of the seed of each run
+     */
+    private Random seeds;
+
+    /**
+     * Streams the seed and the keys of the current run to the replay file, which holds the replay of the last ended
+     * run, null unless a replay file is set in the properties
+     */
+    private ReplayWriter replayWriter;
     private BestScores bestScores;
 
+    private Hud hud;
+
+    /**
+     * The draw calls and texture bindings profiler, null unless enabled in the properties
+     */
+    private RenderProfiler renderProfiler;
+
+    /**
+     * The clock of the simulation, which runs at a fixed tick rate whatever the frame rate is
+     */
+    private FixedTimestep timestep;
+
+    /**
+     * The time passed to the last update, used to compute the interpolation factor
+     */
+    private float lastUpdateDelta;
+
+    /**
+     * The interpolation factor between the previous and current coordinates of the sprites to draw
+     */
+    private float renderAlpha;
+
+    /**
+     * The snapshots of the simulated ticks, handed over to the renderer
+     */
+    private SnapshotExchange snapshots;
+
+    /**
+     * The keys read by the render thread, waiting for the simulation to apply them
+     */
+    private InputQueue inputQueue;
+
+    /**
+     * The keys held at the last simulated tick, applied again while no newer keys are queued
+     */
+    private int heldKeys;
+
+    /**
+     * The number of the current run, which tells the renderer when a new run starts
+     */
+    private int run;
+
+    /**
+     * The run the HUD is laid out for
+     */
+    private int hudRun;
+
+    /**
+     * The loop running the simulation on its own thread, null if the simulation runs on the render thread
+     */
+    private SimulationLoop simulationLoop;
+    private Thread simulationThread;
+
     @Override
     public void initialise() {
         stage = new Stage(new ScalingViewport(Scaling.fit, Gdx.graphics.getWidth(), Gdx.graphics.getHeight()));
         Gdx.input.setInputProcessor(stage);
 
         Fonts.load();
+        hud = new Hud();
 
         input = new HandlingInput();
         spriteBatch = new SpriteBatch();
 
-        gameFactory = new ForestFactory();
-        background = gameFactory.createBackground();
-        hero = gameFactory.createHero();
-
-        metersManagerFactory = new MetersManagerFactory();
-
-        CollisionManager.wasOnObstacle.clear();
-
-        spawnableManager = new SpawnableManager();
-        spawnableLinkedList = new LinkedList<>();
+        var world = new World(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        simulation = new Simulation(world, ForestHero.readFrames(), new Random());
+        textures = new ForestTextures(world);
 
         streamManager = new StreamManager(new FileStreamFactory(FILENAME));
         bestScores = streamManager.loadBestScores();
-    }
 
-    @Override
-    public void update(float delta) {
-        background.scroll();
+        snapshots = new SnapshotExchange();
+        inputQueue = new InputQueue(INPUT_QUEUE_CAPACITY);
 
-        if (!hero.isXAxisVisible(Gdx.graphics.getWidth())) {
-            hero.die();
+        var properties = PropertiesCache.getInstance();
+        var tickRate = Integer.parseInt(properties.getProperty(PropertiesConstants.TICK_RATE));
+        timestep = new FixedTimestep(tickRate,
+                Integer.parseInt(properties.getProperty(PropertiesConstants.MAX_CATCH_UP_STEPS)));
+
+        var replayFile = properties.getProperty(PropertiesConstants.REPLAY_FILE);
+        if (replayFile != null && !replayFile.isEmpty()) {
+            replayWriter = new ReplayWriter(Paths.get(replayFile), world.getWidth(), world.getHeight(), tickRate,
+                    Integer.parseInt(properties.getProperty(PropertiesConstants.REPLAY_KEYFRAME_SECONDS)),
+                    REPLAY_BUFFER_CAPACITY);
         }
 
-        metersManagerFactory.computeMeters();
-        computeBestScores();
-        // TODO delete
-        spawnableManager.setSpawnProbability(metersManagerFactory.getSpawnProbability());
+        seeds = new Random();
+        restart();
 
-        //stateTime += Gdx.graphics.getDeltaTime(); // Accumulate elapsed animation time
-        hero.updateDelta(Gdx.graphics.getDeltaTime());
-        input.getKeyWASD(hero, metersManagerFactory.getSpeed());
-        hero.move();
+        if (Boolean.parseBoolean(properties.getProperty(PropertiesConstants.PROFILING)))
+            renderProfiler = new RenderProfiler();
 
-        Spawnable newObstacle = spawnableManager.generateNewObstacle();
+        publishSnapshot();
 
-        if (newObstacle != null)
-            spawnableLinkedList.add(newObstacle);
-        spawnableManager.clearOldObstacles(spawnableLinkedList);
+        if (Boolean.parseBoolean(properties.getProperty(PropertiesConstants.SIMULATION_THREAD))) {
+            simulationLoop = new SimulationLoop(timestep, this::simulateTick);
+            simulationThread = new Thread(simulationLoop, "simulation");
+            simulationThread.setDaemon(true);
+            simulationThread.start();
+        }
+    }
 
-        moveAllObjects();
+    /**
+     * Starts a new run with a new seed, rewinding the state of the ended one while keeping all the loaded resources
+     */
+    private void restart() {
+        var seed = seeds.nextLong();
+        simulation.restart(seed);
+        if (replayWriter != null)
+            replayWriter.start(seed);
+        heldKeys = 0;
+        run++;
+    }
 
-        animateCharacters();
+    /**
+     * Reads the keys and, unless the simulation has its own thread, simulates as many fixed ticks as the elapsed
+     * time amounts to
+     *
+     * @param delta the time elapsed since the previous update, in seconds
+     */
+    @Override
+    public void update(float delta) {
+        if (!inputQueue.offer(input.pollKeys()))
+            LOGGER.fine("Input queue full, keys dropped");
 
-        preUpdateCollisionBoxes();
+        if (simulationLoop != null)
+            return;
 
-        checkCollisions();
+        lastUpdateDelta = delta;
 
-        if (hero.isDead()) {
-            spriteBatch.dispose();
-            computeBestScores();
-            streamManager.saveBestScores(bestScores);
-            initialise();
-        }
+        var steps = timestep.advance(delta);
+        for (int i = 0; i < steps; i++)
+            simulateTick();
     }
 
-    private void animateCharacters() {
-        for (Spawnable enemy : spawnableLinkedList) {
-            if (enemy instanceof AbstractEnemy) {
-                var animator = ((AbstractEnemy) enemy).getAnimator();
-                animator.updateImageFrame((AbstractEnemy) enemy);
-                animator.updateStateTime(Gdx.graphics.getDeltaTime());
-            }
-        }
+    /**
+     * Simulates a tick and publishes its snapshot, on the simulation thread if it is enabled
+     */
+    private void simulateTick() {
+        tick(timestep.getTick());
+        publishSnapshot();
     }
 
-    private void computeBestScores() {
-        var currentFinalScore = metersManagerFactory.getScore();
-        var currentFinalMeters = metersManagerFactory.getMeters();
+    /**
+     * Fills the back snapshot with the current state of the game and hands it over to the renderer
+     */
+    private void publishSnapshot() {
+        var snapshot = snapshots.getBack();
+        snapshot.clear();
+
+        var spawnables = simulation.getSpawnables();
+        var hero = simulation.getHero();
+        snapshot.addRegion(textures.getRegion(simulation.getBackground()));
+        snapshot.addSprite(textures.getRegion(hero), hero);
+        for (int i = 0; i < spawnables.size(); i++) {
+            var obstacle = spawnables.get(i);
+            if (obstacle.isXAxisVisible())
+                snapshot.addSprite(textures.getRegion(obstacle), obstacle);
+        }
 
-        bestScores.setHighScore(Math.max(bestScores.getHighScore(), currentFinalScore));
-        bestScores.setLongestRun(Math.max(bestScores.getLongestRun(), currentFinalMeters));
+        snapshot.setRun(run);
+        snapshot.setHeroGroundX(simulation.getHero().getGroundX());
+        snapshot.setScores(simulation.getMeters(), simulation.getScore(),
+                bestScores.getLongestRun(), bestScores.getHighScore());
+
+        snapshots.publish();
     }
 
-    private void preUpdateCollisionBoxes() {
-        hero.getCollisionBox().preUpdate();
-        for (var obstacle : spawnableLinkedList)
-            obstacle.getCollisionBox().preUpdate();
+    /**
+     * Takes the keys queued since the previous tick. The held keys are the latest ones, while a pressed key counts
+     * if it was pressed at any time since the previous tick
+     *
+     * @return the bitmask of the keys to apply
+     */
+    private int pollQueuedKeys() {
+        int pressedKeys = 0;
+        for (int keys = inputQueue.poll(); keys != InputQueue.EMPTY; keys = inputQueue.poll()) {
+            heldKeys = keys & HeroInput.HELD_KEYS;
+            pressedKeys |= keys & HeroInput.PRESSED_KEYS;
+        }
+        return heldKeys | pressedKeys;
     }
 
-    private void moveAllObjects() {
-        hero.setX(hero.getX() - metersManagerFactory.getSpeed());
+    /**
+     * Advances the simulation by a tick, saving the best scores and the replay and starting a new run when the hero dies
+     *
+     * @param tick the duration of the tick in seconds
+     */
+    private void tick(float tick) {
+        var keys = pollQueuedKeys();
+        if (replayWriter != null)
+            replayWriter.record(keys, simulation);
+        simulation.tick(tick, keys);
+        computeBestScores();
 
-        for (var obstacle : spawnableLinkedList)
-            obstacle.setX(obstacle.getX() - 3 * metersManagerFactory.getSpeed());
+        if (simulation.isOver()) {
+            streamManager.saveBestScores(bestScores);
+            if (replayWriter != null)
+                replayWriter.finish(simulation);
+            LOGGER.info("Run ended: " + simulation.getDeathCause());
+            LOGGER.info(TextureCache.getInstance().toString());
+            for (var type : SpawnableTypes.values())
+                LOGGER.info(type + " " + simulation.getSpawnableManager().getPool(type));
+            LOGGER.info(simulation.getEnemyEvents().toString());
+            restart();
+        }
     }
 
-    private void checkCollisions() {
-        for (var obstacle : spawnableLinkedList)
-            CollisionManager.checkCollision(hero, obstacle);
+    private void computeBestScores() {
+        var currentFinalScore = simulation.getScore();
+        var currentFinalMeters = simulation.getMeters();
+
+        bestScores.setHighScore(Math.max(bestScores.getHighScore(), currentFinalScore));
+        bestScores.setLongestRun(Math.max(bestScores.getLongestRun(), currentFinalMeters));
     }
 
+    /**
+     * Computes where, between the last two simulated ticks, the sprites are drawn.
+     * The time mini2Dx has not passed to update yet, its {@code alpha} fraction of the last update, is added to the
+     * time the fixed timestep has not simulated yet. When the simulation has its own thread, the factor is computed
+     * at rendering from the time the drawn snapshot was published instead.
+     *
+     * @param alpha the fraction of the last update elapsed since it was passed
+     */
     @Override
     public void interpolate(float alpha) {
-        hero.getCollisionBox().interpolate(null, 1.0f);
-
-        for (var obstacle : spawnableLinkedList)
-            obstacle.getCollisionBox().interpolate(null, 1.0f);
+        if (simulationLoop == null)
+            renderAlpha = timestep.getAlpha(alpha * lastUpdateDelta);
     }
 
+    /**
+     * Draws the latest snapshot published by the simulation
+     */
     @Override
     public void render(Graphics g) {
+        var snapshot = snapshots.acquire();
+
+        if (simulationLoop != null)
+            renderAlpha = Math.min(1, (System.nanoTime() - snapshot.getPublishedNanos()) / 1_000_000_000f
+                    / timestep.getTick());
+
         spriteBatch.begin();
 
-        spriteBatch.draw(background, 0, 0);
-        drawHero();
-        drawObstacles();
-        drawScore();
+        snapshot.draw(spriteBatch, renderAlpha);
+        drawScore(snapshot);
 
         spriteBatch.end();
-    }
 
-    private void drawObstacles() {
-        if (spawnableLinkedList.isEmpty()) {
-            return;
-        }
-        for (var obstacle : spawnableLinkedList)
-            if (obstacle.isXAxisVisible())
-                obstacle.draw(spriteBatch);
+        if (renderProfiler != null)
+            renderProfiler.frameRendered(spriteBatch);
     }
 
-    private void drawHero() {
-        hero.draw(spriteBatch);
+    private void drawScore(SimulationSnapshot snapshot) {
+        if (snapshot.getRun() != hudRun) {
+            hudRun = snapshot.getRun();
+            hud.startRun(snapshot.getHeroGroundX());
+        }
+        hud.update(snapshot.getMeters(), snapshot.getScore(), snapshot.getLongestRun(), snapshot.getHighScore());
+        hud.draw(spriteBatch);
     }
 
-    private void drawScore() {
-        var xPosMeter = Gdx.graphics.getWidth() * 0.03f;
-        var yPos = Gdx.graphics.getHeight() * 0.95f;
-
-        var meter_offset = Fonts.meterFont.draw(spriteBatch, "METERS: " + metersManagerFactory.getMeters(),
-                xPosMeter, yPos);
-        var longestRunOffset = Fonts.meterFont.draw(spriteBatch, "LONGEST RUN: " + bestScores.getLongestRun(),
-                xPosMeter, yPos - (meter_offset.height * 1.5f));
+    /**
+     * Stops the simulation thread after the tick it is simulating, so that the game is never left mid-tick, then
+     * stops the replay writer thread and releases the resources of the game
+     */
+    @Override
+    public void dispose() {
+        if (simulationLoop != null) {
+            simulationLoop.stop();
+            try {
+                simulationThread.join(SIMULATION_STOP_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (simulationThread.isAlive()) {
+                LOGGER.warning("The simulation thread did not stop, the resources of the game are not released");
+                return;
+            }
+        }
 
-        var xPosScore = Math.max(hero.getGroundX(), xPosMeter + longestRunOffset.width + 50);
+        if (replayWriter != null)
+            replayWriter.close();
 
-        var score_offset = Fonts.scoreFont.draw(spriteBatch, "SCORE: " + metersManagerFactory.getScore(),
-                xPosScore, yPos);
-        Fonts.scoreFont.draw(spriteBatch, "BEST SCORE: " + bestScores.getHighScore(),
-                xPosScore, yPos - (score_offset.height * 1.5f));
+        textures.dispose();
+        spriteBatch.dispose();
+        stage.dispose();
+        Fonts.dispose();
     }
 
 }
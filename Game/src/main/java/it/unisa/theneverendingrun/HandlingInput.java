@@ -2,34 +2,35 @@ package it.unisa.theneverendingrun;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
-import it.unisa.theneverendingrun.models.hero.Hero;
 
-public class HandlingInput {
-
-    public void getKeyWASD(Hero hero, float speed) {
-
-        if (Gdx.input.isKeyPressed(Input.Keys.D) || Gdx.input.isKeyPressed(Input.Keys.RIGHT)) {
-            hero.getFacingState().onRight();
-
-            if (hero.getX() < hero.getGroundX())
-                hero.setDx(speed * 2f);
-            else
-                hero.setDx(speed);
-        } else
-            hero.setDx(0);
+import static it.unisa.theneverendingrun.HeroInput.JUMP;
+import static it.unisa.theneverendingrun.HeroInput.LEFT;
+import static it.unisa.theneverendingrun.HeroInput.RIGHT;
+import static it.unisa.theneverendingrun.HeroInput.SLIDE;
 
-        if (Gdx.input.isKeyJustPressed(Input.Keys.W) || Gdx.input.isKeyJustPressed(Input.Keys.UP)) {
-            hero.getMoveState().onJump();
-        }
-
-        if (Gdx.input.isKeyPressed(Input.Keys.A) || Gdx.input.isKeyPressed(Input.Keys.LEFT)) {
-            hero.getFacingState().onLeft();
-            hero.setDx(speed);
-        }
-
-        if (Gdx.input.isKeyPressed(Input.Keys.S) || Gdx.input.isKeyPressed(Input.Keys.DOWN)) {
-            hero.getMoveState().onSlide();
-        }
+/**
+ * Reads the keyboard into a bitmask of the keys the game reacts to, as defined by {@link HeroInput}.
+ * The keys are read on the render thread and applied to the hero by the simulation.
+ */
+public class HandlingInput {
 
+    /**
+     * Reads the keyboard, must be called on the render thread
+     *
+     * @return the bitmask of the keys the game reacts to
+     */
+    public int pollKeys() {
+        int keys = 0;
+
+        if (Gdx.input.isKeyPressed(Input.Keys.D) || Gdx.input.isKeyPressed(Input.Keys.RIGHT))
+            keys |= RIGHT;
+        if (Gdx.input.isKeyPressed(Input.Keys.A) || Gdx.input.isKeyPressed(Input.Keys.LEFT))
+            keys |= LEFT;
+        if (Gdx.input.isKeyJustPressed(Input.Keys.W) || Gdx.input.isKeyJustPressed(Input.Keys.UP))
+            keys |= JUMP;
+        if (Gdx.input.isKeyPressed(Input.Keys.S) || Gdx.input.isKeyPressed(Input.Keys.DOWN))
+            keys |= SLIDE;
+
+        return keys;
     }
 }
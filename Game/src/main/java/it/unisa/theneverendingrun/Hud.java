@@ -0,0 +1,83 @@
+package it.unisa.theneverendingrun;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.Batch;
+
+/**
+ * The heads-up display showing the travelled meters, the score and the best scores.
+ * Each label is laid out again only when the value it shows changes, so the best scores, which usually stay
+ * the same for the whole run, are laid out once per run.
+ */
+class Hud {
+
+    /**
+     * The left margin of the meters labels, as a fraction of the screen width
+     */
+    private static final float MARGIN_X = 0.03f;
+
+    /**
+     * The top of the first row of labels, as a fraction of the screen height
+     */
+    private static final float TOP_Y = 0.95f;
+
+    /**
+     * The distance between two rows of labels, as a multiple of the upper label height
+     */
+    private static final float LINE_SPACING = 1.5f;
+
+    /**
+     * The minimum horizontal distance between the meters labels and the score labels
+     */
+    private static final float SCORE_GAP = 50;
+
+    private final HudLabel meters = new HudLabel(Fonts.meterFont, "METERS: ");
+    private final HudLabel longestRun = new HudLabel(Fonts.meterFont, "LONGEST RUN: ");
+    private final HudLabel score = new HudLabel(Fonts.scoreFont, "SCORE: ");
+    private final HudLabel bestScore = new HudLabel(Fonts.scoreFont, "BEST SCORE: ");
+
+    /**
+     * The minimum left coordinate of the score labels
+     */
+    private float scoreMinX;
+
+    /**
+     * Prepares the HUD for a new run, so that all the labels are laid out at the next update
+     *
+     * @param scoreMinX the minimum left coordinate of the score labels
+     */
+    void startRun(float scoreMinX) {
+        this.scoreMinX = scoreMinX;
+        meters.invalidate();
+        longestRun.invalidate();
+        score.invalidate();
+        bestScore.invalidate();
+    }
+
+    /**
+     * Updates the labels whose values changed
+     *
+     * @param currentMeters    the meters travelled in the current run
+     * @param currentScore     the score of the current run
+     * @param longestRunMeters the meters of the longest run
+     * @param highScore        the best score
+     */
+    void update(int currentMeters, int currentScore, int longestRunMeters, int highScore) {
+        var xPosMeter = Gdx.graphics.getWidth() * MARGIN_X;
+        var yPos = Gdx.graphics.getHeight() * TOP_Y;
+
+        meters.update(currentMeters, xPosMeter, yPos);
+        longestRun.update(longestRunMeters, xPosMeter, yPos - meters.getHeight() * LINE_SPACING);
+
+        var xPosScore = Math.max(scoreMinX, xPosMeter + longestRun.getWidth() + SCORE_GAP);
+
+        score.update(currentScore, xPosScore, yPos);
+        bestScore.update(highScore, xPosScore, yPos - score.getHeight() * LINE_SPACING);
+    }
+
+    void draw(Batch batch) {
+        meters.draw(batch);
+        longestRun.draw(batch);
+        score.draw(batch);
+        bestScore.draw(batch);
+    }
+}
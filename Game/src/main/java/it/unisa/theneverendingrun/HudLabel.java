@@ -0,0 +1,84 @@
+package it.unisa.theneverendingrun;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.utils.StringBuilder;
+
+/**
+ * A HUD label made of a fixed prefix followed by an integer value.
+ * The text is written in a reusable char buffer and laid out in a {@link BitmapFontCache} only when the value
+ * or the position change, so that drawing an unchanged label every frame does not allocate anything.
+ */
+class HudLabel {
+
+    private final BitmapFontCache cache;
+
+    /**
+     * The label text: the prefix followed by the digits of the current value
+     */
+    private final StringBuilder text;
+
+    private final int prefixLength;
+
+    private int value;
+    private float x;
+    private float y;
+    private float width;
+    private float height;
+
+    /**
+     * True if the label must be laid out at the next update, whatever its value and position are
+     */
+    private boolean invalid = true;
+
+    HudLabel(BitmapFont font, String prefix) {
+        this.cache = new BitmapFontCache(font, font.usesIntegerPositions());
+        this.text = new StringBuilder(prefix.length() + 11);
+        this.text.append(prefix);
+        this.prefixLength = prefix.length();
+    }
+
+    /**
+     * Lays out the label again if {@code value}, {@code x} or {@code y} differ from the current ones
+     *
+     * @param value the value to show after the prefix
+     * @param x     the left coordinate of the label
+     * @param y     the top coordinate of the label
+     */
+    void update(int value, float x, float y) {
+        if (!invalid && value == this.value && x == this.x && y == this.y)
+            return;
+
+        this.value = value;
+        this.x = x;
+        this.y = y;
+        invalid = false;
+
+        text.setLength(prefixLength);
+        text.append(value);
+
+        var layout = cache.setText(text, x, y);
+        width = layout.width;
+        height = layout.height;
+    }
+
+    /**
+     * Forces the label to be laid out at the next update
+     */
+    void invalidate() {
+        invalid = true;
+    }
+
+    void draw(Batch batch) {
+        cache.draw(batch);
+    }
+
+    float getWidth() {
+        return width;
+    }
+
+    float getHeight() {
+        return height;
+    }
+}
@@ -0,0 +1,78 @@
+package it.unisa.theneverendingrun;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded lock-free queue of key bitmasks, passed from the thread polling the input to the one simulating the game.
+ * Only one thread may offer and only one thread may poll, so the two indexes are each written by a single thread
+ * and publishing them is enough to make the queued values visible.
+ */
+final class InputQueue {
+
+    /**
+     * Returned by {@link #poll()} when the queue is empty; no key bitmask is negative
+     */
+    static final int EMPTY = -1;
+
+    private final int[] items;
+
+    /**
+     * The mask turning an index into a position in {@code items}, whose length is a power of two
+     */
+    private final int mask;
+
+    /**
+     * The index of the next value to poll, written by the consumer only
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * The index of the next value to offer, written by the producer only
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * @param capacity the number of values the queue holds, rounded up to a power of two
+     * @throws IllegalArgumentException if {@code capacity} is less than 1
+     */
+    InputQueue(int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Capacity must be greater or equal than 1.");
+        var length = Integer.highestOneBit(capacity);
+        if (length < capacity)
+            length <<= 1;
+        items = new int[length];
+        mask = items.length - 1;
+    }
+
+    /**
+     * Appends a value, called by the producer thread only
+     *
+     * @param keys the key bitmask to append
+     * @return false if the queue is full and {@code keys} was dropped
+     */
+    boolean offer(int keys) {
+        var t = tail.get();
+        if (t - head.get() == items.length)
+            return false;
+
+        items[(int) (t & mask)] = keys;
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * Removes the oldest value, called by the consumer thread only
+     *
+     * @return the oldest key bitmask, {@link #EMPTY} if the queue is empty
+     */
+    int poll() {
+        var h = head.get();
+        if (h == tail.get())
+            return EMPTY;
+
+        var keys = items[(int) (h & mask)];
+        head.lazySet(h + 1);
+        return keys;
+    }
+}
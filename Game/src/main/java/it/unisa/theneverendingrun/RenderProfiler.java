@@ -0,0 +1,55 @@
+package it.unisa.theneverendingrun;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+
+import java.util.logging.Logger;
+
+/**
+ * Collects the draw calls, texture bindings and sprite batch flushes of each rendered frame and periodically
+ * logs their averages, so that the batching of the sprites can be checked
+ */
+class RenderProfiler {
+
+    private static final Logger LOGGER = Logger.getLogger(RenderProfiler.class.getName());
+
+    /**
+     * The number of frames the averages are computed on
+     */
+    private static final int REPORT_FRAMES = 600;
+
+    private final GLProfiler profiler;
+
+    private long drawCalls;
+    private long textureBindings;
+    private long batchFlushes;
+    private int frames;
+
+    RenderProfiler() {
+        profiler = new GLProfiler(Gdx.graphics);
+        profiler.enable();
+    }
+
+    /**
+     * Accounts for a rendered frame, logging the averages every {@code REPORT_FRAMES} frames
+     *
+     * @param spriteBatch the batch the frame was drawn with, after its end() method has been called
+     */
+    void frameRendered(SpriteBatch spriteBatch) {
+        drawCalls += profiler.getDrawCalls();
+        textureBindings += profiler.getTextureBindings();
+        batchFlushes += spriteBatch.renderCalls;
+        frames++;
+        profiler.reset();
+
+        if (frames == REPORT_FRAMES) {
+            LOGGER.info(String.format("Per frame: %.2f draw calls, %.2f texture bindings, %.2f batch flushes",
+                    (double) drawCalls / frames, (double) textureBindings / frames, (double) batchFlushes / frames));
+            drawCalls = 0;
+            textureBindings = 0;
+            batchFlushes = 0;
+            frames = 0;
+        }
+    }
+}
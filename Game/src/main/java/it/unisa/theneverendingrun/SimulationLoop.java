@@ -0,0 +1,60 @@
+package it.unisa.theneverendingrun;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs the simulation on its own thread at the tick rate of a {@link FixedTimestep}, sleeping between the ticks.
+ */
+final class SimulationLoop implements Runnable {
+
+    private static final Logger LOGGER = Logger.getLogger(SimulationLoop.class.getName());
+
+    private final FixedTimestep timestep;
+
+    /**
+     * Simulates a tick and publishes its snapshot
+     */
+    private final Runnable tick;
+
+    private volatile boolean running = true;
+
+    /**
+     * @param timestep the clock of the simulation, used by this loop only
+     * @param tick     simulates a tick and publishes its snapshot
+     */
+    SimulationLoop(FixedTimestep timestep, Runnable tick) {
+        this.timestep = timestep;
+        this.tick = tick;
+    }
+
+    @Override
+    public void run() {
+        var tickNanos = (long) (timestep.getTick() * 1_000_000_000L);
+        var previous = System.nanoTime();
+
+        try {
+            while (running) {
+                var now = System.nanoTime();
+                var steps = timestep.advance((now - previous) / 1_000_000_000f);
+                previous = now;
+
+                for (int i = 0; i < steps && running; i++)
+                    tick.run();
+
+                // sleep until the next tick is due
+                LockSupport.parkNanos((long) ((1 - timestep.getAlpha(0)) * tickNanos));
+            }
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "The simulation stopped", e);
+        }
+    }
+
+    /**
+     * Makes the loop end after the tick being simulated
+     */
+    void stop() {
+        running = false;
+    }
+}
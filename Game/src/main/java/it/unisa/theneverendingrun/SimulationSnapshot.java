@@ -0,0 +1,203 @@
+package it.unisa.theneverendingrun;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import it.unisa.theneverendingrun.models.Sprite;
+
+/**
+ * What the renderer needs of a simulated tick: the texture region, size and coordinates of each sprite to draw,
+ * in drawing order, and the values shown by the HUD.
+ * A snapshot is filled by the simulation and, once published, only read by the renderer until it is handed back
+ * to be filled again, so snapshots are reused and filling one does not allocate unless it has to grow.
+ */
+final class SimulationSnapshot {
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    /**
+     * The number of floats stored for each sprite, in the order of the offsets below
+     */
+    private static final int STRIDE = 10;
+    private static final int PREVIOUS_X = 0;
+    private static final int PREVIOUS_Y = 1;
+    private static final int X = 2;
+    private static final int Y = 3;
+    private static final int WIDTH = 4;
+    private static final int HEIGHT = 5;
+    private static final int U = 6;
+    private static final int V = 7;
+    private static final int U2 = 8;
+    private static final int V2 = 9;
+
+    private Texture[] textures = new Texture[INITIAL_CAPACITY];
+    private float[] values = new float[INITIAL_CAPACITY * STRIDE];
+    private int size;
+
+    /**
+     * The number of the tick this snapshot was filled by, increasing with each published snapshot
+     */
+    private long sequence;
+
+    /**
+     * When the snapshot was published, as given by {@link System#nanoTime()}
+     */
+    private long publishedNanos;
+
+    /**
+     * The number of the run this snapshot belongs to
+     */
+    private int run;
+
+    /**
+     * The x the hero stands at when the run starts, which the HUD is laid out from
+     */
+    private float heroGroundX;
+
+    private int meters;
+    private int score;
+    private int longestRun;
+    private int highScore;
+
+    /**
+     * Empties the snapshot before it is filled again
+     */
+    void clear() {
+        for (int i = 0; i < size; i++)
+            textures[i] = null;
+        size = 0;
+    }
+
+    /**
+     * Adds a texture region drawn at its own size at the origin, as the background is
+     *
+     * @param region the region to draw
+     */
+    void addRegion(TextureRegion region) {
+        add(region, 0, 0, 0, 0, region.getRegionWidth(), region.getRegionHeight());
+    }
+
+    /**
+     * Adds a sprite, drawn with a texture region between its previous and current coordinates
+     *
+     * @param region the region the sprite is drawn with
+     * @param sprite the sprite to draw
+     */
+    void addSprite(TextureRegion region, Sprite sprite) {
+        add(region, sprite.getPreviousX(), sprite.getPreviousY(), sprite.getX(), sprite.getY(),
+                sprite.getWidth(), sprite.getHeight());
+    }
+
+    private void add(TextureRegion region, float previousX, float previousY, float x, float y,
+                     float width, float height) {
+        if (size == textures.length)
+            grow();
+
+        textures[size] = region.getTexture();
+        var offset = size * STRIDE;
+        values[offset + PREVIOUS_X] = previousX;
+        values[offset + PREVIOUS_Y] = previousY;
+        values[offset + X] = x;
+        values[offset + Y] = y;
+        values[offset + WIDTH] = width;
+        values[offset + HEIGHT] = height;
+        // the bottom of a region is at v2, as the batch draws regions and sprites
+        values[offset + U] = region.getU();
+        values[offset + V] = region.getV2();
+        values[offset + U2] = region.getU2();
+        values[offset + V2] = region.getV();
+        size++;
+    }
+
+    private void grow() {
+        var grownTextures = new Texture[textures.length * 2];
+        System.arraycopy(textures, 0, grownTextures, 0, size);
+        textures = grownTextures;
+
+        var grownValues = new float[values.length * 2];
+        System.arraycopy(values, 0, grownValues, 0, size * STRIDE);
+        values = grownValues;
+    }
+
+    /**
+     * Sets the values shown by the HUD
+     */
+    void setScores(int meters, int score, int longestRun, int highScore) {
+        this.meters = meters;
+        this.score = score;
+        this.longestRun = longestRun;
+        this.highScore = highScore;
+    }
+
+    /**
+     * Draws the sprites between their previous and current coordinates
+     *
+     * @param batch the batch to draw with, already begun
+     * @param alpha the interpolation factor, 0 for the previous coordinates and 1 for the current ones
+     */
+    void draw(Batch batch, float alpha) {
+        for (int i = 0; i < size; i++) {
+            var offset = i * STRIDE;
+            var previousX = values[offset + PREVIOUS_X];
+            var previousY = values[offset + PREVIOUS_Y];
+
+            batch.draw(textures[i],
+                    previousX + (values[offset + X] - previousX) * alpha,
+                    previousY + (values[offset + Y] - previousY) * alpha,
+                    values[offset + WIDTH], values[offset + HEIGHT],
+                    values[offset + U], values[offset + V], values[offset + U2], values[offset + V2]);
+        }
+    }
+
+    int getSize() {
+        return size;
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    long getPublishedNanos() {
+        return publishedNanos;
+    }
+
+    void setPublishedNanos(long publishedNanos) {
+        this.publishedNanos = publishedNanos;
+    }
+
+    int getRun() {
+        return run;
+    }
+
+    void setRun(int run) {
+        this.run = run;
+    }
+
+    float getHeroGroundX() {
+        return heroGroundX;
+    }
+
+    void setHeroGroundX(float heroGroundX) {
+        this.heroGroundX = heroGroundX;
+    }
+
+    int getMeters() {
+        return meters;
+    }
+
+    int getScore() {
+        return score;
+    }
+
+    int getLongestRun() {
+        return longestRun;
+    }
+
+    int getHighScore() {
+        return highScore;
+    }
+}
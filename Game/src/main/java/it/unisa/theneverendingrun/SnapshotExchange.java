@@ -0,0 +1,60 @@
+package it.unisa.theneverendingrun;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hands the snapshots filled by the simulation over to the renderer without locking.
+ * Three snapshots are reused: the simulation fills the back one, the renderer draws the front one, and the latest
+ * published one waits in between. Publishing and acquiring swap a snapshot with the waiting one atomically, so
+ * neither side ever waits for the other, the renderer always draws the latest complete tick, and a snapshot is never
+ * written while it is read. Only one thread may publish and only one thread may acquire.
+ */
+final class SnapshotExchange {
+
+    /**
+     * The latest published snapshot, not yet acquired by the renderer
+     */
+    private final AtomicReference<SimulationSnapshot> ready = new AtomicReference<>(new SimulationSnapshot());
+
+    /**
+     * The snapshot being filled, owned by the simulation
+     */
+    private SimulationSnapshot back = new SimulationSnapshot();
+
+    /**
+     * The snapshot being drawn, owned by the renderer
+     */
+    private SimulationSnapshot front = new SimulationSnapshot();
+
+    /**
+     * The sequence number of the last published snapshot, owned by the simulation
+     */
+    private long sequence;
+
+    /**
+     * @return the snapshot to fill, called by the simulation thread only
+     */
+    SimulationSnapshot getBack() {
+        return back;
+    }
+
+    /**
+     * Publishes the filled back snapshot, called by the simulation thread only
+     */
+    void publish() {
+        back.setSequence(++sequence);
+        back.setPublishedNanos(System.nanoTime());
+        back = ready.getAndSet(back);
+    }
+
+    /**
+     * Takes the latest published snapshot, if it is newer than the one being drawn, called by the render thread only
+     *
+     * @return the latest published snapshot
+     */
+    SimulationSnapshot acquire() {
+        if (ready.get().getSequence() > front.getSequence())
+            front = ready.getAndSet(front);
+        return front;
+    }
+}
@@ -5,4 +5,10 @@ public final class PropertiesConstants {
     public static final String SCREEN_WIDTH = "screenWidth";
     public static final String SCREEN_HEIGHT = "screenHeight";
     public static final String VSYNC_ENABLED = "vsync";
+    public static final String PROFILING = "profiling";
+    public static final String TICK_RATE = "tickRate";
+    public static final String MAX_CATCH_UP_STEPS = "maxCatchUpSteps";
+    public static final String SIMULATION_THREAD = "simulationThread";
+    public static final String REPLAY_FILE = "replayFile";
+    public static final String REPLAY_KEYFRAME_SECONDS = "replayKeyframeSeconds";
 }
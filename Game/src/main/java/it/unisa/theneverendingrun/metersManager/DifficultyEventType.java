@@ -1,12 +0,0 @@
-package it.unisa.theneverendingrun.metersManager;
-
-/**
- * An enumeration containing all the topic related to {@link DifficultyMeterListener}
- */
-enum DifficultyEventType {
-
-    /**
-     * A topic that updates each time the {@link DifficultyMeterListener} difficulty variable changes
-     */
-    LEVEL_CHANGED
-}
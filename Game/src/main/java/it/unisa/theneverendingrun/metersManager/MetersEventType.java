@@ -1,12 +0,0 @@
-package it.unisa.theneverendingrun.metersManager;
-
-/**
- * An enumeration containing all the topic related to {@link MeterEditor}
- */
-enum MetersEventType {
-
-    /**
-     * A topic that updates each time the {@link MeterEditor} meters variable changes
-     */
-    METERS_CHANGED
-}
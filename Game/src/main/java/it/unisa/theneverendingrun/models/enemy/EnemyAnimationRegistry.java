@@ -0,0 +1,100 @@
+package it.unisa.theneverendingrun.models.enemy;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import it.unisa.theneverendingrun.models.SpawnableTypes;
+import it.unisa.theneverendingrun.services.assets.TextureCache;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable registry holding the frames of each enemy type and {@link EnemyAnimationType}, which the renderer
+ * draws as the {@link EnemyAnimator} of each enemy tells. All the frames are acquired from the {@link TextureCache}
+ * when the registry is built, so that drawing an enemy never loads a texture. The frames are shared among all the
+ * enemies of the same type and must not be modified.
+ */
+public final class EnemyAnimationRegistry {
+
+    /**
+     * The frames of each enemy type, indexed by {@link EnemyAnimationType} ordinal and by frame
+     */
+    private final Map<SpawnableTypes, TextureRegion[][]> frames;
+
+    /**
+     * The paths of all the frames acquired from the {@link TextureCache}
+     */
+    private final List<String> framePaths;
+
+    /**
+     * Loads all the animations of every enemy type in {@code commonPaths}. The frames of each animation are expected
+     * to be stored at {@code commonPath + animationType.getFrameName() + "_" + i + ".png"}, with i going from 1 to
+     * {@code frames}
+     *
+     * @param frames      the number of frames of each animation
+     * @param commonPaths the common prefix of the frames of each enemy type
+     */
+    public EnemyAnimationRegistry(int frames, Map<SpawnableTypes, String> commonPaths) {
+        var textureCache = TextureCache.getInstance();
+        var animationTypes = EnemyAnimationType.values();
+        var loadedFrames = new EnumMap<SpawnableTypes, TextureRegion[][]>(SpawnableTypes.class);
+        var loadedPaths = new ArrayList<String>();
+
+        for (var enemy : commonPaths.entrySet()) {
+            var typeFrames = new TextureRegion[animationTypes.length][];
+
+            for (var animationType : animationTypes) {
+                var keyFrames = new TextureRegion[frames];
+                for (int i = 1; i <= frames; i++) {
+                    var path = enemy.getValue() + animationType.getFrameName() + "_" + i + ".png";
+                    keyFrames[i - 1] = textureCache.acquireRegion(path);
+                    loadedPaths.add(path);
+                }
+                typeFrames[animationType.ordinal()] = keyFrames;
+            }
+
+            loadedFrames.put(enemy.getKey(), typeFrames);
+        }
+
+        this.frames = loadedFrames;
+        this.framePaths = List.copyOf(loadedPaths);
+    }
+
+    /**
+     * Gets the frame an enemy shows, as told by its animator
+     *
+     * @param animator the animator of the enemy
+     * @return the shared frame
+     * @throws IllegalArgumentException if no animation was registered for the enemy type
+     */
+    public TextureRegion getFrame(EnemyAnimator animator) {
+        return getFrame(animator.getType(), animator.getFrameAnimationType(), animator.getFrameIndex());
+    }
+
+    /**
+     * Gets the shared frame of index {@code index} of the animation of type {@code animationType} of an enemy of
+     * type {@code type}
+     *
+     * @param type          the enemy type
+     * @param animationType the animation type
+     * @param index         the index of the frame in the animation
+     * @return the shared frame
+     * @throws IllegalArgumentException if no animation was registered for {@code type}
+     */
+    public TextureRegion getFrame(SpawnableTypes type, EnemyAnimationType animationType, int index) {
+        var typeFrames = frames.get(type);
+        if (typeFrames == null)
+            throw new IllegalArgumentException("No animations registered for " + type);
+        return typeFrames[animationType.ordinal()][index];
+    }
+
+    /**
+     * Releases all the frames acquired from the {@link TextureCache}
+     */
+    public void dispose() {
+        var textureCache = TextureCache.getInstance();
+        for (var path : framePaths)
+            textureCache.release(path);
+    }
+}
@@ -0,0 +1,174 @@
+package it.unisa.theneverendingrun.services;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import it.unisa.theneverendingrun.models.Spawnable;
+import it.unisa.theneverendingrun.models.SpawnableTypes;
+import it.unisa.theneverendingrun.models.World;
+import it.unisa.theneverendingrun.models.background.AbstractScrollingBackground;
+import it.unisa.theneverendingrun.models.enemy.AbstractEnemy;
+import it.unisa.theneverendingrun.models.enemy.EnemyAnimationRegistry;
+import it.unisa.theneverendingrun.models.hero.Hero;
+import it.unisa.theneverendingrun.models.hero.HeroMoveStateType;
+import it.unisa.theneverendingrun.services.animations.MirroredFrames;
+import it.unisa.theneverendingrun.services.assets.TextureCache;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static com.badlogic.gdx.graphics.Texture.TextureWrap.MirroredRepeat;
+import static com.badlogic.gdx.graphics.Texture.TextureWrap.Repeat;
+
+/**
+ * The texture regions the sprites created by the {@link ForestFactory} are drawn with. All the textures are acquired
+ * from the {@link TextureCache} when the textures are created, so they must be created and disposed on the thread
+ * owning the GL context, while picking the region of a sprite from its state never loads a texture.
+ */
+public class ForestTextures {
+
+    private static final String COMMON_PATH = "images/forest/";
+
+    private static final String BACKGROUND_PATH = "backgrounds/forest.png";
+    private static final String JUMPABLE_SLIDABLE_PATH = "obstacles/jumpableSlidable.png";
+    private static final String SLIDABLE_PATH = "obstacles/slidable.png";
+    private static final String JUMPABLE_PATH = "obstacles/jumpable.png";
+    private static final String GOLEM_PATH = "enemies/golem/golem_";
+    private static final String WOLF_PATH = "enemies/wolf/wolf_";
+
+    /**
+     * The images of the hero, measured in the properties resource read by ForestHero.readFrames()
+     */
+    static final String HERO_STAND_PATH = "stand.png";
+    private static final String HERO_SLIDE_PATH = "slide.png";
+    private static final String HERO_JUMP_PATH = "jump.png";
+    private static final String HERO_FALL_PATH = "fall.png";
+    private static final String HERO_RUN_FRAME_PATH = "images/forest/hero/run/hero_run_";
+
+    /**
+     * The number of frames of the run animation of the hero
+     */
+    private static final int HERO_RUN_FRAMES = 8;
+
+    /**
+     * The scrolled window of the background texture
+     */
+    private final TextureRegion backgroundRegion;
+
+    /**
+     * The frame the hero shows when a run starts
+     */
+    private final TextureRegion heroStandFrame;
+
+    /**
+     * The frames of the hero facing either side, indexed by {@link HeroMoveStateType#ordinal()}, null for the move
+     * states without frames
+     */
+    private final MirroredFrames[] heroFrames = new MirroredFrames[HeroMoveStateType.values().length];
+
+    private final Map<HeroMoveStateType, String[]> heroFramePaths = getHeroFramePaths();
+
+    /**
+     * The region of each obstacle type
+     */
+    private final Map<SpawnableTypes, TextureRegion> obstacleRegions = new EnumMap<>(SpawnableTypes.class);
+
+    /**
+     * The frames shared by all the enemies
+     */
+    private final EnemyAnimationRegistry enemyAnimations;
+
+    /**
+     * @param world the world the background is drawn in
+     */
+    public ForestTextures(World world) {
+        var textureCache = TextureCache.getInstance();
+
+        var backgroundTexture = textureCache.acquire(COMMON_PATH + BACKGROUND_PATH);
+        backgroundTexture.setWrap(MirroredRepeat, Repeat);
+        backgroundRegion = new TextureRegion(backgroundTexture, 0, 0, world.getWidth(), world.getHeight());
+        backgroundRegion.flip(false, true);
+
+        heroStandFrame = new TextureRegion(textureCache.acquire(HERO_STAND_PATH));
+        heroStandFrame.flip(false, true);
+
+        for (var entry : heroFramePaths.entrySet()) {
+            var paths = entry.getValue();
+            var frames = new TextureRegion[paths.length];
+            for (int i = 0; i < paths.length; i++)
+                frames[i] = textureCache.acquireRegion(paths[i]);
+            heroFrames[entry.getKey().ordinal()] = new MirroredFrames(frames);
+        }
+
+        obstacleRegions.put(SpawnableTypes.JumpableSlidable, textureCache.acquireRegion(COMMON_PATH + JUMPABLE_SLIDABLE_PATH));
+        obstacleRegions.put(SpawnableTypes.Slidable, textureCache.acquireRegion(COMMON_PATH + SLIDABLE_PATH));
+        obstacleRegions.put(SpawnableTypes.Jumpable, textureCache.acquireRegion(COMMON_PATH + JUMPABLE_PATH));
+
+        enemyAnimations = new EnemyAnimationRegistry(ForestFactory.ENEMY_ANIMATION_FRAMES, Map.of(
+                SpawnableTypes.Golem, COMMON_PATH + GOLEM_PATH,
+                SpawnableTypes.Wolf, COMMON_PATH + WOLF_PATH));
+    }
+
+    /**
+     * @return the paths of the frames of each move state of the hero with frames: the run while the hero is idle,
+     * a single frame while it jumps, falls or slides
+     */
+    static Map<HeroMoveStateType, String[]> getHeroFramePaths() {
+        var runPaths = new String[HERO_RUN_FRAMES];
+        for (int i = 1; i <= HERO_RUN_FRAMES; i++)
+            runPaths[i - 1] = HERO_RUN_FRAME_PATH + i + ".png";
+
+        return Map.of(
+                HeroMoveStateType.IDLE, runPaths,
+                HeroMoveStateType.JUMP, new String[]{HERO_JUMP_PATH},
+                HeroMoveStateType.FALL, new String[]{HERO_FALL_PATH},
+                HeroMoveStateType.SLIDE, new String[]{HERO_SLIDE_PATH});
+    }
+
+    /**
+     * @param background the background
+     * @return the region of the background texture scrolled as the background is
+     */
+    public TextureRegion getRegion(AbstractScrollingBackground background) {
+        backgroundRegion.setU(background.getScrollAmount());
+        backgroundRegion.setU2(background.getScrollAmount() + background.getScrollWidth());
+        return backgroundRegion;
+    }
+
+    /**
+     * @param hero the hero
+     * @return the frame the hero shows
+     */
+    public TextureRegion getRegion(Hero hero) {
+        var frameState = hero.getFrameState();
+        if (frameState == null)
+            return heroStandFrame;
+
+        var frames = heroFrames[frameState.ordinal()];
+        return (hero.isFrameLeft() ? frames.getLeftFrames() : frames.getRightFrames())[hero.getFrameIndex()];
+    }
+
+    /**
+     * @param spawnable an obstacle or an enemy
+     * @return the region of the obstacle, or the frame the enemy shows
+     */
+    public TextureRegion getRegion(Spawnable spawnable) {
+        if (spawnable instanceof AbstractEnemy)
+            return enemyAnimations.getFrame(((AbstractEnemy) spawnable).getAnimator());
+        return obstacleRegions.get(spawnable.getType());
+    }
+
+    /**
+     * Releases all the textures acquired from the {@link TextureCache}
+     */
+    public void dispose() {
+        var textureCache = TextureCache.getInstance();
+        enemyAnimations.dispose();
+        textureCache.release(COMMON_PATH + JUMPABLE_SLIDABLE_PATH);
+        textureCache.release(COMMON_PATH + SLIDABLE_PATH);
+        textureCache.release(COMMON_PATH + JUMPABLE_PATH);
+        for (var paths : heroFramePaths.values())
+            for (var path : paths)
+                textureCache.release(path);
+        textureCache.release(HERO_STAND_PATH);
+        textureCache.release(COMMON_PATH + BACKGROUND_PATH);
+    }
+}
@@ -0,0 +1,58 @@
+package it.unisa.theneverendingrun.services.animations;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * A store of animation frames in both their right-facing and left-facing variants.
+ * Both variants are built once, when the store is created, so that drawing a frame facing either side never
+ * allocates or flips a {@link TextureRegion}. The frames are shared and must not be modified.
+ */
+public final class MirroredFrames {
+
+    /**
+     * The frames as they are stored in the images, i.e. facing right
+     */
+    private final TextureRegion[] rightFrames;
+
+    /**
+     * The frames flipped on the horizontal axis, i.e. facing left
+     */
+    private final TextureRegion[] leftFrames;
+
+    /**
+     * Builds the right-facing and left-facing variants of every frame
+     *
+     * @param frames the frames facing right, in animation order
+     */
+    public MirroredFrames(TextureRegion... frames) {
+        rightFrames = new TextureRegion[frames.length];
+        leftFrames = new TextureRegion[frames.length];
+
+        for (int i = 0; i < frames.length; i++) {
+            rightFrames[i] = new TextureRegion(frames[i]);
+            leftFrames[i] = new TextureRegion(frames[i]);
+            leftFrames[i].flip(true, false);
+        }
+    }
+
+    /**
+     * @return the frames facing right, indexed by frame
+     */
+    public TextureRegion[] getRightFrames() {
+        return rightFrames;
+    }
+
+    /**
+     * @return the frames facing left, indexed by frame
+     */
+    public TextureRegion[] getLeftFrames() {
+        return leftFrames;
+    }
+
+    /**
+     * @return the number of frames in the store
+     */
+    public int size() {
+        return rightFrames.length;
+    }
+}
@@ -0,0 +1,297 @@
+package it.unisa.theneverendingrun.services.assets;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A cache that hands out shared {@link Texture} and {@link TextureRegion} handles by path.
+ * Each path is loaded at most once while it is referenced: every {@code acquire} increases its reference counter
+ * and every {@code release} decreases it, disposing the texture when nobody references it anymore.
+ * Hits, misses and resident bytes are tracked, so that texture creations during a run can be spotted.
+ * <p>
+ * Regions of images packed at build time in the texture atlas are served from the atlas pages, so that sprites
+ * drawn one after the other share the same texture and the {@link com.badlogic.gdx.graphics.g2d.SpriteBatch}
+ * does not need to flush between them. The atlas pages are loaded with the first packed region and disposed
+ * with the last one.
+ */
+public final class TextureCache {
+
+    /**
+     * A cached texture together with its whole-texture region and the number of references to it
+     */
+    private static class Entry {
+        private final Texture texture;
+        private final TextureRegion region;
+        private final long bytes;
+        private int references;
+
+        private Entry(Texture texture) {
+            this.texture = texture;
+            this.region = new TextureRegion(texture);
+            this.bytes = (long) texture.getWidth() * texture.getHeight() * bytesPerPixel(texture);
+        }
+    }
+
+    /**
+     * The region index of the atlas packed at build time
+     */
+    private static final String ATLAS_PATH = "atlas/sprites.atlas";
+
+    /**
+     * The prefix of the image paths that is not part of the atlas region names
+     */
+    private static final String IMAGES_PREFIX = "images/";
+
+    private static final String IMAGES_EXTENSION = ".png";
+
+    /**
+     * The cached textures, by path
+     */
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    /**
+     * The paths of all the images packed in the atlas
+     */
+    private final Set<String> atlasPaths = new HashSet<>();
+
+    /**
+     * The atlas regions by path, filled while the atlas is loaded
+     */
+    private final Map<String, TextureRegion> atlasRegions = new HashMap<>();
+
+    /**
+     * The loaded atlas, null if no packed region is referenced
+     */
+    private TextureAtlas atlas;
+
+    /**
+     * The number of references to the atlas regions
+     */
+    private int atlasReferences;
+
+    /**
+     * The estimated number of bytes of the atlas pages
+     */
+    private long atlasBytes;
+
+    /**
+     * The number of acquisitions satisfied by an already loaded texture
+     */
+    private int hits;
+
+    /**
+     * The number of acquisitions that had to load a new texture
+     */
+    private int misses;
+
+    /**
+     * The estimated number of bytes of all the resident textures
+     */
+    private long residentBytes;
+
+    private TextureCache() {
+        var atlasFile = Gdx.files.internal(ATLAS_PATH);
+        if (!atlasFile.exists())
+            return;
+
+        var atlasData = new TextureAtlas.TextureAtlasData(atlasFile, atlasFile.parent(), false);
+        for (var region : atlasData.getRegions())
+            atlasPaths.add(toPath(region.name, region.index));
+    }
+
+    //Bill Pugh Solution for singleton pattern
+    private static class LazyHolder {
+        private static final TextureCache INSTANCE = new TextureCache();
+    }
+
+    public static TextureCache getInstance() {
+        return LazyHolder.INSTANCE;
+    }
+
+    /**
+     * Gets the texture stored at {@code path}, loading it if it is not resident, and adds a reference to it.
+     * The images packed in the atlas have no texture of their own, so they are acquired by
+     * {@link #acquireRegion(String)} only, and {@link #release(String)} always releases the reference it took
+     *
+     * @param path the internal path of the texture
+     * @return the shared texture; it must not be disposed by the caller, use {@link #release(String)} instead
+     * @throws IllegalArgumentException if the image is packed in the atlas
+     */
+    public Texture acquire(String path) {
+        if (isPacked(path))
+            throw new IllegalArgumentException("Texture " + path + " is packed in the atlas, acquire its region.");
+        return acquireEntry(path).texture;
+    }
+
+    /**
+     * @param path the internal path of an image
+     * @return true if the image is packed in the atlas, so that its region is taken from the atlas pages
+     */
+    public boolean isPacked(String path) {
+        return atlasPaths.contains(path);
+    }
+
+    /**
+     * Gets a region covering the whole image stored at {@code path} and adds a reference to it.
+     * If the image was packed in the atlas, the region is taken from the atlas pages.
+     *
+     * @param path the internal path of the image
+     * @return the shared region; it must not be modified by the caller
+     */
+    public TextureRegion acquireRegion(String path) {
+        if (isPacked(path))
+            return acquireAtlasRegion(path);
+        return acquireEntry(path).region;
+    }
+
+    private TextureRegion acquireAtlasRegion(String path) {
+        if (atlas == null) {
+            atlas = new TextureAtlas(Gdx.files.internal(ATLAS_PATH));
+            for (var region : atlas.getRegions())
+                atlasRegions.put(toPath(region.name, region.index), region);
+            for (var page : atlas.getTextures()) {
+                misses++;
+                atlasBytes += (long) page.getWidth() * page.getHeight() * bytesPerPixel(page);
+            }
+            residentBytes += atlasBytes;
+        } else {
+            hits++;
+        }
+        atlasReferences++;
+        return atlasRegions.get(path);
+    }
+
+    /**
+     * Removes a reference to the texture stored at {@code path}, disposing it when it is not referenced anymore
+     *
+     * @param path the internal path of the texture
+     * @throws IllegalStateException if the texture is not resident
+     */
+    public void release(String path) {
+        if (isPacked(path)) {
+            releaseAtlasRegion(path);
+            return;
+        }
+
+        var entry = entries.get(path);
+        if (entry == null)
+            throw new IllegalStateException("Texture " + path + " is not resident");
+
+        entry.references--;
+        if (entry.references == 0) {
+            entries.remove(path);
+            residentBytes -= entry.bytes;
+            entry.texture.dispose();
+        }
+    }
+
+    private void releaseAtlasRegion(String path) {
+        if (atlas == null)
+            throw new IllegalStateException("Texture " + path + " is not resident");
+
+        atlasReferences--;
+        if (atlasReferences == 0) {
+            atlas.dispose();
+            atlas = null;
+            atlasRegions.clear();
+            residentBytes -= atlasBytes;
+            atlasBytes = 0;
+        }
+    }
+
+    private Entry acquireEntry(String path) {
+        var entry = entries.get(path);
+        if (entry == null) {
+            misses++;
+            entry = new Entry(new Texture(path));
+            entries.put(path, entry);
+            residentBytes += entry.bytes;
+        } else {
+            hits++;
+        }
+        entry.references++;
+        return entry;
+    }
+
+    /**
+     * @return the number of acquisitions satisfied by an already loaded texture
+     */
+    public int getHits() {
+        return hits;
+    }
+
+    /**
+     * @return the number of acquisitions that had to load a new texture
+     */
+    public int getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return the estimated number of bytes of all the resident textures
+     */
+    public long getResidentBytes() {
+        return residentBytes;
+    }
+
+    /**
+     * @return the number of resident textures
+     */
+    public int getResidentTextures() {
+        return entries.size() + (atlas == null ? 0 : atlas.getTextures().size);
+    }
+
+    /**
+     * Sets the hits and misses counters back to 0
+     */
+    public void resetStatistics() {
+        hits = 0;
+        misses = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "TextureCache{hits=" + hits + ", misses=" + misses + ", residentTextures=" + getResidentTextures()
+                + ", residentBytes=" + residentBytes + "}";
+    }
+
+    /**
+     * Rebuilds the internal path of an image from the name and index of its atlas region.
+     * The packer drops the images folder and the extension and turns a trailing "_N" into the region index
+     *
+     * @param name  the atlas region name
+     * @param index the atlas region index, -1 if none
+     * @return the internal path of the image
+     */
+    private static String toPath(String name, int index) {
+        var path = IMAGES_PREFIX + name;
+        return index < 0 ? path + IMAGES_EXTENSION : path + "_" + index + IMAGES_EXTENSION;
+    }
+
+    private static int bytesPerPixel(Texture texture) {
+        var format = texture.getTextureData().getFormat();
+        if (format == null)
+            return 4;
+
+        switch (format) {
+            case Alpha:
+            case Intensity:
+                return 1;
+            case LuminanceAlpha:
+            case RGB565:
+            case RGBA4444:
+                return 2;
+            case RGB888:
+                return 3;
+            default:
+                return 4;
+        }
+    }
+}
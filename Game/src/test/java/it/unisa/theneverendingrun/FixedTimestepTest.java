@@ -0,0 +1,44 @@
+package it.unisa.theneverendingrun;
+
+import it.unisa.theneverendingrun.utilities.MathUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FixedTimestepTest {
+
+    private static final int TICK_RATE = 60;
+    private static final int MAX_CATCH_UP_STEPS = 5;
+
+    private final FixedTimestep timestep = new FixedTimestep(TICK_RATE, MAX_CATCH_UP_STEPS);
+
+    @Test
+    public void testTickRateIndependentOfFrameRate() {
+        var ticks = 0;
+        // one second at 144 frames per second
+        for (int frame = 0; frame < 144; frame++)
+            ticks += timestep.advance(1f / 144);
+
+        Assert.assertEquals(TICK_RATE, ticks, 1);
+    }
+
+    @Test
+    public void testAlpha() {
+        Assert.assertEquals(0, timestep.advance(timestep.getTick() / 4));
+        Assert.assertEquals(0.25, timestep.getAlpha(0), MathUtils.DELTA);
+        Assert.assertEquals(0.75, timestep.getAlpha(timestep.getTick() / 2), MathUtils.DELTA);
+        Assert.assertEquals(1, timestep.getAlpha(timestep.getTick()), MathUtils.DELTA);
+    }
+
+    @Test
+    public void testCatchUpCap() {
+        // a one second hitch
+        Assert.assertEquals(MAX_CATCH_UP_STEPS, timestep.advance(1));
+        Assert.assertTrue(timestep.getAlpha(0) < 1);
+        Assert.assertEquals(1, timestep.advance(timestep.getTick()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidTickRate() {
+        new FixedTimestep(0, MAX_CATCH_UP_STEPS);
+    }
+}
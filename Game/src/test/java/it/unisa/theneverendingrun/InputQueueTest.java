@@ -0,0 +1,46 @@
+package it.unisa.theneverendingrun;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class InputQueueTest {
+
+    private static final int VALUES = 100_000;
+
+    @Test
+    public void testFullAndEmpty() {
+        var queue = new InputQueue(3);
+        Assert.assertEquals(InputQueue.EMPTY, queue.poll());
+
+        for (int i = 0; i < 4; i++)
+            Assert.assertTrue(queue.offer(i));
+        Assert.assertFalse(queue.offer(4));
+
+        for (int i = 0; i < 4; i++)
+            Assert.assertEquals(i, queue.poll());
+        Assert.assertEquals(InputQueue.EMPTY, queue.poll());
+    }
+
+    @Test
+    public void testOrderAcrossThreads() throws InterruptedException {
+        var queue = new InputQueue(64);
+
+        var producer = new Thread(() -> {
+            for (int i = 0; i < VALUES; i++)
+                while (!queue.offer(i))
+                    Thread.yield();
+        });
+        producer.start();
+
+        for (int expected = 0; expected < VALUES; ) {
+            var value = queue.poll();
+            if (value == InputQueue.EMPTY)
+                Thread.yield();
+            else
+                Assert.assertEquals(expected++, value);
+        }
+
+        producer.join();
+        Assert.assertEquals(InputQueue.EMPTY, queue.poll());
+    }
+}
@@ -0,0 +1,64 @@
+package it.unisa.theneverendingrun.services;
+
+import it.unisa.theneverendingrun.models.hero.ForestHero;
+import it.unisa.theneverendingrun.models.hero.HeroFrames;
+import it.unisa.theneverendingrun.models.hero.HeroMoveStateType;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+
+/**
+ * Checks the measures of the frames of the forest hero shipped with the rules against the images the game draws
+ */
+public class ForestHeroFramesTest {
+
+    private final HeroFrames frames = ForestHero.readFrames();
+
+    private static BufferedImage read(String path) throws IOException {
+        try (var stream = ForestHeroFramesTest.class.getClassLoader().getResourceAsStream(path)) {
+            Assert.assertNotNull(path, stream);
+            return ImageIO.read(stream);
+        }
+    }
+
+    /**
+     * @return the number of columns on the right side of the image whose pixels all have their RGBA components at 0
+     */
+    private static int blankRightColumns(BufferedImage image) {
+        var width = image.getWidth();
+        for (int x = width - 1; x >= 0; x--)
+            for (int y = 0; y < image.getHeight(); y++)
+                if (image.getRGB(x, y) != 0)
+                    return width - 1 - x;
+        return width;
+    }
+
+    @Test
+    public void testStandSize() throws IOException {
+        var stand = read(ForestTextures.HERO_STAND_PATH);
+
+        Assert.assertEquals(stand.getWidth(), frames.getStandWidth());
+        Assert.assertEquals(stand.getHeight(), frames.getStandHeight());
+    }
+
+    @Test
+    public void testFrameMeasures() throws IOException {
+        var paths = ForestTextures.getHeroFramePaths();
+        for (var type : HeroMoveStateType.values()) {
+            var typePaths = paths.getOrDefault(type, new String[0]);
+            Assert.assertEquals(type.name(), typePaths.length, frames.getFrameCount(type));
+
+            for (int i = 0; i < typePaths.length; i++) {
+                var image = read(typePaths[i]);
+                if (i == 0) {
+                    Assert.assertEquals(typePaths[i], image.getWidth(), frames.getWidth(type));
+                    Assert.assertEquals(typePaths[i], image.getHeight(), frames.getHeight(type));
+                }
+                Assert.assertEquals(typePaths[i], blankRightColumns(image), frames.getRightInset(type, i));
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package it.unisa.theneverendingrun.services.assets;
+
+import de.tomgrill.gdxtesting.GdxTestRunner;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(GdxTestRunner.class)
+public class TextureCacheTest {
+
+    private static final String PATH = "images/canepazzo.png";
+    private static final String PACKED_PATH = "images/forest/obstacles/jumpable.png";
+
+    private TextureCache cache = TextureCache.getInstance();
+
+    @Test
+    public void testSharedTexture() {
+        var misses = cache.getMisses();
+        var hits = cache.getHits();
+
+        var first = cache.acquire(PATH);
+        var second = cache.acquire(PATH);
+
+        Assert.assertSame(first, second);
+        Assert.assertSame(cache.acquireRegion(PATH).getTexture(), first);
+        Assert.assertEquals(misses + 1, cache.getMisses());
+        Assert.assertEquals(hits + 2, cache.getHits());
+
+        cache.release(PATH);
+        cache.release(PATH);
+        cache.release(PATH);
+    }
+
+    @Test
+    public void testResidentBytes() {
+        var residentBytes = cache.getResidentBytes();
+        var residentTextures = cache.getResidentTextures();
+
+        var texture = cache.acquire(PATH);
+        Assert.assertEquals(residentTextures + 1, cache.getResidentTextures());
+        Assert.assertTrue(cache.getResidentBytes() >= residentBytes + texture.getWidth() * texture.getHeight());
+
+        cache.release(PATH);
+        Assert.assertEquals(residentTextures, cache.getResidentTextures());
+        Assert.assertEquals(residentBytes, cache.getResidentBytes());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testReleaseNotResident() {
+        cache.release(PATH);
+    }
+
+    @Test
+    public void testAcquirePackedTexture() {
+        Assume.assumeTrue(cache.isPacked(PACKED_PATH));
+        var residentTextures = cache.getResidentTextures();
+
+        try {
+            cache.acquire(PACKED_PATH);
+            Assert.fail("A packed image was acquired as a texture");
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(residentTextures, cache.getResidentTextures());
+        }
+
+        cache.acquireRegion(PACKED_PATH);
+        cache.release(PACKED_PATH);
+        Assert.assertEquals(residentTextures, cache.getResidentTextures());
+    }
+}